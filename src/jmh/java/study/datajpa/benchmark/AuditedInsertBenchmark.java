@@ -0,0 +1,62 @@
+package study.datajpa.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.datajpa.entity.Member;
+import study.datajpa.repository.MemberRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * auditing 이 적용된 Member 를 batch insert 할 때의 처리량.
+ * cachePerTransaction=false 는 엔티티마다 UUID.randomUUID(), LocalDateTime.now() 를 호출하는 기존 방식이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class AuditedInsertBenchmark {
+
+    private static final int BATCH = 100;
+
+    @Param({"true", "false"})
+    public boolean cachePerTransaction;
+
+    BenchmarkContext context;
+    MemberRepository memberRepository;
+    TransactionTemplate transaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("datajpa.auditing.cache-per-transaction=" + cachePerTransaction);
+        memberRepository = context.getBean(MemberRepository.class);
+        transaction = context.transactionTemplate(false);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clean() {
+        memberRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH) // 결과는 초당 insert 건수
+    public int insert() {
+        List<Member> members = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            members.add(new Member(BenchmarkContext.USER_NAME, i));
+        }
+        return transaction.execute(status -> memberRepository.saveAllBatched(members).size());
+    }
+}
@@ -0,0 +1,86 @@
+package study.datajpa.benchmark;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.datajpa.DataJpaApplication;
+import study.datajpa.entity.Member;
+import study.datajpa.entity.Team;
+import study.datajpa.repository.MemberRepository;
+import study.datajpa.repository.TeamRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * benchmark 용 JPA 컨텍스트. 외부 H2 서버 없이 in-memory H2 로 기동한다.
+ */
+public class BenchmarkContext implements AutoCloseable {
+
+    public static final String USER_NAME = "bench";
+
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkContext(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    public static BenchmarkContext start(String... properties) {
+        List<String> defaults = new ArrayList<>(Arrays.asList(
+                "spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "logging.level.org.hibernate.SQL=warn",
+                "logging.level.p6spy=warn",
+                "decorator.datasource.p6spy.enable-logging=false"
+        ));
+        defaults.addAll(Arrays.asList(properties)); // 뒤에 지정한 값이 우선한다.
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DataJpaApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(defaults.toArray(new String[0]))
+                .run();
+        return new BenchmarkContext(context);
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public TransactionTemplate transactionTemplate(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(getBean(PlatformTransactionManager.class));
+        template.setReadOnly(readOnly);
+        return template;
+    }
+
+    /**
+     * 기존 데이터를 지우고 teams 개의 팀에 members 명을 나누어 저장한다. 회원 이름은 모두 USER_NAME
+     */
+    public void seed(int members, int teams) {
+        MemberRepository memberRepository = getBean(MemberRepository.class);
+        TeamRepository teamRepository = getBean(TeamRepository.class);
+        memberRepository.deleteAllInBatch();
+        teamRepository.deleteAllInBatch();
+
+        List<Team> teamList = new ArrayList<>();
+        for (int i = 0; i < teams; i++) {
+            teamList.add(new Team("team" + i));
+        }
+        teamRepository.saveAllBatched(teamList);
+
+        List<Member> memberList = new ArrayList<>();
+        for (int i = 0; i < members; i++) {
+            memberList.add(new Member(USER_NAME, i % 100, teamList.get(i % teams)));
+        }
+        memberRepository.saveAllBatched(memberList);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
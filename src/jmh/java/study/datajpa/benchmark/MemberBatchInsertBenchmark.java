@@ -0,0 +1,63 @@
+package study.datajpa.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import study.datajpa.entity.Member;
+import study.datajpa.repository.MemberRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 초당 insert 건수. save 는 건당 트랜잭션, 건당 insert 이고 saveAllBatched 는 한 트랜잭션에서 JDBC batch 로 저장한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberBatchInsertBenchmark {
+
+    private static final int ROWS = 1000;
+
+    BenchmarkContext context;
+    MemberRepository memberRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("datajpa.seed.enabled=false");
+        memberRepository = context.getBean(MemberRepository.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clean() {
+        memberRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int save() {
+        for (int i = 0; i < ROWS; i++) {
+            memberRepository.save(new Member(BenchmarkContext.USER_NAME, i));
+        }
+        return ROWS;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int saveAllBatched() {
+        List<Member> members = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            members.add(new Member(BenchmarkContext.USER_NAME, i));
+        }
+        return memberRepository.saveAllBatched(members).size();
+    }
+}
@@ -0,0 +1,76 @@
+package study.datajpa.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.datajpa.entity.Member;
+import study.datajpa.repository.MemberRepository;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 회원 + 팀 조회 전략 비교. 매 호출마다 새 트랜잭션(영속성 컨텍스트)에서 조회하고 팀 이름까지 접근한다.
+ * 할당량은 -prof gc 의 gc.alloc.rate.norm (bytes/op) 으로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberFetchBenchmark {
+
+    @Param({"100", "1000"})
+    public int members;
+
+    @Param({"10"})
+    public int teams;
+
+    BenchmarkContext context;
+    MemberRepository memberRepository;
+    TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        context.seed(members, teams);
+        memberRepository = context.getBean(MemberRepository.class);
+        readOnly = context.transactionTemplate(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void lazyLoading(Blackhole bh) { // N+1
+        readOnly.execute(status -> consume(memberRepository.findMemberCustom(), bh));
+    }
+
+    @Benchmark
+    public void fetchJoin(Blackhole bh) {
+        readOnly.execute(status -> consume(memberRepository.findMemberFetchJoin(), bh));
+    }
+
+    @Benchmark
+    public void entityGraph(Blackhole bh) {
+        readOnly.execute(status -> consume(memberRepository.findMemberEntityGraph(), bh));
+    }
+
+    @Benchmark
+    public void namedEntityGraph(Blackhole bh) {
+        readOnly.execute(status -> consume(memberRepository.findNamedEntityGraphByUserName(BenchmarkContext.USER_NAME), bh));
+    }
+
+    private int consume(List<Member> result, Blackhole bh) {
+        for (Member member : result) {
+            bh.consume(member.getUserName());
+            bh.consume(member.getTeam().getName());
+        }
+        return result.size();
+    }
+}
@@ -0,0 +1,87 @@
+package study.datajpa.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.datajpa.repository.MemberRepository;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 1M 건에서 Member index(idx_member_user_name_age, idx_member_age) 유무에 따른 조회 시간.
+ * 데이터는 JPA 대신 H2 SYSTEM_RANGE 로 한 번에 넣는다. (user_name = 'user' + n, age = n % 100)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class MemberIndexBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"true", "false"})
+    public boolean indexed;
+
+    BenchmarkContext context;
+    MemberRepository memberRepository;
+    TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("datajpa.seed.enabled=false");
+        memberRepository = context.getBean(MemberRepository.class);
+        readOnly = context.transactionTemplate(true);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("delete from member");
+        jdbcTemplate.update("insert into member (member_id, user_name, age, version) " +
+                "select x, 'user' || x, mod(x, 100), 0 from system_range(1, ?)", rows);
+        if (!indexed) {
+            jdbcTemplate.execute("drop index if exists idx_member_user_name_age");
+            jdbcTemplate.execute("drop index if exists idx_member_age");
+        }
+        jdbcTemplate.execute("analyze");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object findByUserName() {
+        return readOnly.execute(status -> memberRepository.findByUserName(randomUserName()));
+    }
+
+    @Benchmark
+    public Object findByUserNameAndAgeGreaterThan() {
+        return readOnly.execute(status -> memberRepository.findByUserNameAndAgeGreaterThan(randomUserName(), 50));
+    }
+
+    @Benchmark
+    public Object findByNativeQuery() {
+        return readOnly.execute(status -> memberRepository.findByNativeQuery(randomUserName()));
+    }
+
+    @Benchmark
+    public Object findLockByUserName() {
+        return context.transactionTemplate(false).execute(status -> memberRepository.findLockByUserName(randomUserName()));
+    }
+
+    @Benchmark
+    public Object findByAge() { // content 10건 + count (age 당 1만 건)
+        int age = ThreadLocalRandom.current().nextInt(100);
+        return readOnly.execute(status -> memberRepository.findByAge(age, PageRequest.of(0, 10)));
+    }
+
+    private String randomUserName() {
+        return "user" + (1 + ThreadLocalRandom.current().nextInt(rows));
+    }
+}
@@ -0,0 +1,89 @@
+package study.datajpa.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.datajpa.entity.Member;
+import study.datajpa.repository.MemberRepository;
+import study.datajpa.repository.OptimisticLockRetry;
+import study.datajpa.repository.TeamRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 같은 회원의 age 를 여러 스레드가 동시에 증가시킬 때 비관적 락(select for update)과 낙관적 락(@Version + 재시도) 비교.
+ * rows 가 작을수록 같은 row 에 몰리므로 경합이 심하다. (threads 8 / rows 1 이 최악)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class MemberLockBenchmark {
+
+    private static final String USER_NAME_PREFIX = "lock";
+
+    @Param({"1", "8", "64"})
+    public int rows;
+
+    BenchmarkContext context;
+    MemberRepository memberRepository;
+    OptimisticLockRetry optimisticLockRetry;
+    TransactionTemplate transaction;
+    List<Long> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 경합이 심한 경우에도 실패 없이 측정되도록 재시도 횟수를 늘린다.
+        context = BenchmarkContext.start(
+                "datajpa.optimistic-lock-retry.max-attempts=1000",
+                "datajpa.optimistic-lock-retry.initial-backoff=1ms",
+                "datajpa.optimistic-lock-retry.max-backoff=20ms");
+        memberRepository = context.getBean(MemberRepository.class);
+        optimisticLockRetry = context.getBean(OptimisticLockRetry.class);
+        transaction = context.transactionTemplate(false);
+
+        memberRepository.deleteAllInBatch();
+        context.getBean(TeamRepository.class).deleteAllInBatch();
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            members.add(new Member(USER_NAME_PREFIX + i, 0));
+        }
+        memberRepository.saveAllBatched(members);
+        ids = new ArrayList<>();
+        for (Member member : members) {
+            ids.add(member.getId());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int pessimistic() {
+        String userName = USER_NAME_PREFIX + ThreadLocalRandom.current().nextInt(rows);
+        return transaction.execute(status -> {
+            Member member = memberRepository.findLockByUserName(userName).get(0);
+            member.setAge(member.getAge() + 1);
+            return member.getAge();
+        });
+    }
+
+    @Benchmark
+    public int optimistic() {
+        Long id = ids.get(ThreadLocalRandom.current().nextInt(rows));
+        return optimisticLockRetry.execute(status -> {
+            Member member = memberRepository.findById(id).get();
+            member.setAge(member.getAge() + 1);
+            return member.getAge();
+        });
+    }
+}
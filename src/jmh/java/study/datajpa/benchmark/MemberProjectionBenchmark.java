@@ -0,0 +1,88 @@
+package study.datajpa.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.datajpa.repository.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * projection 종류별 조회 비용 비교.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemberProjectionBenchmark {
+
+    @Param({"100", "1000"})
+    public int members;
+
+    @Param({"10"})
+    public int teams;
+
+    BenchmarkContext context;
+    MemberRepository memberRepository;
+    TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        context.seed(members, teams);
+        memberRepository = context.getBean(MemberRepository.class);
+        readOnly = context.transactionTemplate(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void userNameOnly(Blackhole bh) { // interface 기반 closed projection
+        readOnly.execute(status -> {
+            for (UserNameOnly result : memberRepository.findProjectionsByUserName(BenchmarkContext.USER_NAME)) {
+                bh.consume(result.getUserName());
+            }
+            return null;
+        });
+    }
+
+    @Benchmark
+    public void userNameOnlyDto(Blackhole bh) { // class 기반 projection
+        readOnly.execute(status -> {
+            for (UserNameOnlyDto result : memberRepository.findProjectionsOnlyDtoByUserName(BenchmarkContext.USER_NAME)) {
+                bh.consume(result.getUserName());
+            }
+            return null;
+        });
+    }
+
+    @Benchmark
+    public void nestedClosedProjections(Blackhole bh) { // 중첩 projection (team 은 엔티티로 조회)
+        readOnly.execute(status -> {
+            for (NestedClosedProjections result : memberRepository.findProjectionsOnlyDtoByUserName(BenchmarkContext.USER_NAME, NestedClosedProjections.class)) {
+                bh.consume(result.getUserName());
+                bh.consume(result.getTeam().getName());
+            }
+            return null;
+        });
+    }
+
+    @Benchmark
+    public void memberProjection(Blackhole bh) { // native query projection
+        readOnly.execute(status -> {
+            for (MemberProjection result : memberRepository.findByNativeProjection(PageRequest.of(0, members))) {
+                bh.consume(result.getUserName());
+                bh.consume(result.getTeamName());
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,169 @@
+package study.datajpa.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import study.datajpa.DataJpaApplication;
+import study.datajpa.entity.Member;
+import study.datajpa.entity.Team;
+import study.datajpa.repository.MemberRepository;
+import study.datajpa.repository.TeamRepository;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * perf profile 로 애플리케이션을 같은 JVM 에서 띄우고, concurrency 개의 스레드가 쉬지 않고(closed loop) API 를 호출한다.
+ * warmup 구간의 결과는 버리고, 측정 구간의 처리량, 응답 시간(p50/p99/p999), 오류율을 JSON 으로 남긴다.
+ *
+ * 옵션 : --concurrency=8 --warmup=10s --duration=30s --members=10000 --teams=100
+ *        --cursor-pages=10 --scenarios=page,member,cursor,search --report=build/reports/loadtest/report.json
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DataJpaApplication.class)
+                .profiles("perf")
+                .properties("server.port=0")
+                .run();
+        try {
+            LoadTestData data = seed(context, options);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Map<String, Object> report = run(URI.create("http://localhost:" + port), data, options);
+            write(report, new File(options.report));
+        } finally {
+            context.close();
+        }
+    }
+
+    private static LoadTestData seed(ConfigurableApplicationContext context, LoadTestOptions options) {
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        TeamRepository teamRepository = context.getBean(TeamRepository.class);
+        memberRepository.deleteAllInBatch();
+        teamRepository.deleteAllInBatch();
+
+        List<Team> teams = new ArrayList<>();
+        for (int i = 0; i < options.teams; i++) {
+            teams.add(new Team("team" + i));
+        }
+        teamRepository.saveAllBatched(teams);
+
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < options.members; i++) {
+            members.add(new Member("user" + i, i % 100, teams.get(i % options.teams)));
+        }
+        memberRepository.saveAllBatched(members);
+
+        List<Long> ids = new ArrayList<>(members.size());
+        for (Member member : members) {
+            ids.add(member.getId());
+        }
+        // PAGE 시나리오는 이 회원 수로 페이지 범위를 정하므로 DB 의 회원 수와 같아야 한다.
+        long count = memberRepository.count();
+        if (count != ids.size()) {
+            throw new IllegalStateException("expected " + ids.size() + " members after seeding but found " + count);
+        }
+        return new LoadTestData(ids, options.teams, options.cursorPages);
+    }
+
+    private static Map<String, Object> run(URI baseUri, LoadTestData data, LoadTestOptions options) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<Scenario> scenarios = new ArrayList<>();
+        Map<Scenario, ScenarioStats> stats = new EnumMap<>(Scenario.class);
+        for (String name : options.scenarios) {
+            Scenario scenario = Scenario.of(name);
+            scenarios.add(scenario);
+            stats.put(scenario, new ScenarioStats());
+        }
+
+        long startNanos = System.nanoTime();
+        long measureFrom = startNanos + options.warmup.toNanos();
+        long endNanos = measureFrom + options.duration.toNanos();
+
+        ScenarioClient scenarioClient = new ScenarioClient(client, baseUri, stats);
+        ExecutorService workers = Executors.newFixedThreadPool(options.concurrency);
+        for (int i = 0; i < options.concurrency; i++) {
+            workers.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < endNanos) {
+                    Scenario scenario = scenarios.get(random.nextInt(scenarios.size()));
+                    try {
+                        scenario.execute(scenarioClient, data, random);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            });
+        }
+
+        // warmup 이 끝나면 그때까지의 기록을 버린다.
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, measureFrom - System.nanoTime()));
+        stats.values().forEach(ScenarioStats::reset);
+        Instant measuredAt = Instant.now();
+
+        workers.shutdown();
+        workers.awaitTermination(options.duration.toMillis() + TimeUnit.MINUTES.toMillis(1), TimeUnit.MILLISECONDS);
+        double seconds = options.duration.toNanos() / 1e9;
+
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        Map<String, Object> scenarioReports = new LinkedHashMap<>();
+        for (Map.Entry<Scenario, ScenarioStats> entry : stats.entrySet()) {
+            Histogram histogram = entry.getValue().histogram();
+            long errors = entry.getValue().errors();
+            total.add(histogram);
+            totalErrors += errors;
+            scenarioReports.put(entry.getKey().label, ScenarioStats.toMap(histogram, errors, seconds));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("measuredAt", measuredAt.toString());
+        report.put("environment", environment());
+        report.put("options", options.toMap());
+        report.put("total", ScenarioStats.toMap(total, totalErrors, seconds));
+        report.put("scenarios", scenarioReports);
+        return report;
+    }
+
+    private static Map<String, Object> environment() {
+        Map<String, Object> environment = new LinkedHashMap<>();
+        environment.put("java", System.getProperty("java.vm.name") + " " + System.getProperty("java.version"));
+        environment.put("os", System.getProperty("os.name") + " " + System.getProperty("os.version"));
+        environment.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        environment.put("maxHeapMb", Runtime.getRuntime().maxMemory() / (1024 * 1024));
+        return environment;
+    }
+
+    private static void write(Map<String, Object> report, File file) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        objectMapper.writeValue(file, report);
+        System.out.println(objectMapper.writeValueAsString(report.get("total")));
+        System.out.println("report : " + file.getAbsolutePath());
+    }
+}
@@ -0,0 +1,34 @@
+package study.datajpa.loadtest;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+public class LoadTestData {
+
+    final List<Long> memberIds;
+    final int teams;
+    final int cursorPages;
+
+    LoadTestData(List<Long> memberIds, int teams, int cursorPages) {
+        if (memberIds.isEmpty() || teams <= 0) {
+            throw new IllegalArgumentException("members and teams must be positive");
+        }
+        this.memberIds = memberIds;
+        this.teams = teams;
+        this.cursorPages = cursorPages;
+    }
+
+    long randomId(ThreadLocalRandom random) {
+        return memberIds.get(random.nextInt(memberIds.size()));
+    }
+
+    /**
+     * 시드한 회원 수 기준으로 내용이 있는 페이지 수. (마지막 페이지는 size 보다 적을 수 있다.)
+     */
+    int pages(int size) {
+        return (memberIds.size() + size - 1) / size;
+    }
+}
@@ -0,0 +1,78 @@
+package study.datajpa.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * --name=value 형식의 실행 옵션.
+ */
+public class LoadTestOptions {
+
+    final int concurrency;
+    final Duration warmup;
+    final Duration duration;
+    final int members;
+    final int teams;
+    final int cursorPages;
+    final List<String> scenarios;
+    final String report;
+
+    private LoadTestOptions(Map<String, String> args) {
+        this.concurrency = Integer.parseInt(args.getOrDefault("concurrency", "8"));
+        this.warmup = parseDuration(args.getOrDefault("warmup", "10s"));
+        this.duration = parseDuration(args.getOrDefault("duration", "30s"));
+        this.members = Integer.parseInt(args.getOrDefault("members", "10000"));
+        this.teams = Integer.parseInt(args.getOrDefault("teams", "100"));
+        this.cursorPages = Integer.parseInt(args.getOrDefault("cursor-pages", "10"));
+        this.scenarios = Arrays.asList(args.getOrDefault("scenarios", String.join(",", Scenario.NAMES)).split(","));
+        this.report = args.getOrDefault("report", "build/reports/loadtest/report.json");
+        for (String scenario : scenarios) {
+            if (!Scenario.NAMES.contains(scenario)) {
+                throw new IllegalArgumentException("unknown scenario: " + scenario + " (" + Scenario.NAMES + ")");
+            }
+        }
+    }
+
+    public static LoadTestOptions parse(String... args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("expected --name=value : " + arg);
+            }
+            int index = arg.indexOf('=');
+            values.put(arg.substring(2, index), arg.substring(index + 1));
+        }
+        return new LoadTestOptions(values);
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("concurrency", concurrency);
+        map.put("warmupSeconds", warmup.getSeconds());
+        map.put("durationSeconds", duration.getSeconds());
+        map.put("members", members);
+        map.put("teams", teams);
+        map.put("cursorPages", cursorPages);
+        map.put("scenarios", scenarios);
+        return map;
+    }
+
+    // 30s, 2m, 500ms 또는 ISO-8601(PT30S)
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.parse(value);
+    }
+}
@@ -0,0 +1,73 @@
+package study.datajpa.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * MemberController API 호출 시나리오. 매번 시나리오와 파라미터를 무작위로 고른다.
+ */
+public enum Scenario {
+
+    PAGE("page") { // GET /members : content + count. 시드한 회원 수 안의 페이지만 고르고, 빈 페이지는 오류로 기록한다.
+        @Override
+        void execute(ScenarioClient client, LoadTestData data, ThreadLocalRandom random) throws InterruptedException {
+            int page = 1 + random.nextInt(data.pages(PAGE_SIZE)); // one-indexed-parameters
+            client.get(this, "/members?page=" + page + "&size=" + PAGE_SIZE, body -> body.path("content").size() > 0);
+        }
+    },
+    MEMBER("member") { // GET /members/{id} : 캐시 조회
+        @Override
+        void execute(ScenarioClient client, LoadTestData data, ThreadLocalRandom random) throws InterruptedException {
+            client.get(this, "/members/" + data.randomId(random));
+        }
+    },
+    CURSOR("cursor") { // GET /members?cursor= : 첫 페이지부터 nextCursor 를 따라 cursorPages 페이지까지 (요청마다 기록)
+        @Override
+        void execute(ScenarioClient client, LoadTestData data, ThreadLocalRandom random) throws InterruptedException {
+            String cursor = "";
+            for (int page = 0; page < data.cursorPages; page++) {
+                JsonNode body = client.get(this, "/members?cursor=" + cursor + "&size=" + CURSOR_SIZE,
+                        response -> response.path("content").size() > 0);
+                if (body == null || !body.path("hasNext").asBoolean()) {
+                    return;
+                }
+                cursor = body.path("nextCursor").asText(); // URL-safe Base64
+            }
+        }
+    },
+    SEARCH("search") { // GET /members/search
+        @Override
+        void execute(ScenarioClient client, LoadTestData data, ThreadLocalRandom random) throws InterruptedException {
+            int age = random.nextInt(100);
+            client.get(this, "/members/search?teamName=team" + random.nextInt(data.teams)
+                    + "&ageGoe=" + age + "&ageLoe=" + (age + 10) + "&size=10");
+        }
+    };
+
+    private static final int PAGE_SIZE = 5;
+    private static final int CURSOR_SIZE = 20;
+
+    static final List<String> NAMES = Arrays.asList("page", "member", "cursor", "search");
+
+    final String label;
+
+    Scenario(String label) {
+        this.label = label;
+    }
+
+    abstract void execute(ScenarioClient client, LoadTestData data, ThreadLocalRandom random) throws InterruptedException;
+
+    static Scenario of(String label) {
+        for (Scenario scenario : values()) {
+            if (scenario.label.equals(label)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException(label);
+    }
+}
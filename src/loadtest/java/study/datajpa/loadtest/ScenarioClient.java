@@ -0,0 +1,82 @@
+package study.datajpa.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 시나리오의 요청 1건을 보내고 응답 시간, 성공 여부를 해당 시나리오의 ScenarioStats 에 기록한다.
+ */
+public class ScenarioClient {
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final Map<Scenario, ScenarioStats> stats;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    ScenarioClient(HttpClient client, URI baseUri, Map<Scenario, ScenarioStats> stats) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.stats = stats;
+    }
+
+    /**
+     * 응답 본문은 읽지 않는다. 4xx, 5xx 는 오류로 기록한다.
+     */
+    void get(Scenario scenario, String path) throws InterruptedException {
+        long begin = System.nanoTime();
+        boolean success;
+        try {
+            success = client.send(request(path), HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+        } catch (IOException e) {
+            success = false;
+        }
+        stats.get(scenario).record(System.nanoTime() - begin, success);
+    }
+
+    /**
+     * 응답 본문(JSON)이 expected 를 만족하지 않으면 오류로 기록한다.
+     *
+     * @return 성공한 응답의 본문, 실패하면 null
+     */
+    JsonNode get(Scenario scenario, String path, Predicate<JsonNode> expected) throws InterruptedException {
+        long begin = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = client.send(request(path), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            stats.get(scenario).record(System.nanoTime() - begin, false);
+            return null;
+        }
+        long latency = System.nanoTime() - begin; // 본문 파싱 시간은 응답 시간에 넣지 않는다.
+
+        JsonNode body = null;
+        if (response.statusCode() < 400) {
+            try {
+                body = objectMapper.readTree(response.body());
+            } catch (IOException e) {
+                body = null;
+            }
+        }
+        boolean success = body != null && expected.test(body);
+        stats.get(scenario).record(latency, success);
+        return success ? body : null;
+    }
+
+    private HttpRequest request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package study.datajpa.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import study.datajpa.monitor.StatementCounter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 비동기 repository 메서드(@Async(REPOSITORY_EXECUTOR)), 병렬 findByNames 전용 executor. 대기열이 차면 거절한다.
+ * 커넥션 풀은 이 executor(datajpa.async.pool-size), count executor(datajpa.page-count.pool-size),
+ * 동기 요청이 나누어 쓴다. 비동기 요청이 몰려도 동기 요청의 커넥션이 남도록 두 executor 의 합은 풀 크기보다 작아야 한다.
+ * (기본값 : 풀 10 = 비동기 3 + count 2 + 동기 요청 5)
+ * (executor_* metric 으로 active, queued, completed 를 확인할 수 있다.)
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String REPOSITORY_EXECUTOR = "repositoryExecutor";
+
+    @Bean(name = REPOSITORY_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService repositoryExecutor(@Value("${datajpa.async.pool-size:3}") int poolSize,
+                                              @Value("${datajpa.async.queue-capacity:100}") int queueCapacity,
+                                              @Value("${datajpa.page-count.pool-size:2}") int countPoolSize,
+                                              @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+                                              MeterRegistry meterRegistry) {
+        Assert.state(poolSize + countPoolSize < connectionPoolSize, "datajpa.async.pool-size + datajpa.page-count.pool-size"
+                + " must be less than the connection pool size (" + connectionPoolSize + ")");
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("repository-"),
+                new ThreadPoolExecutor.AbortPolicy()) {
+            // submit 도 execute 를 거치므로 모든 작업의 statement 가 호출한 스레드의 scope 에 기록된다.
+            @Override
+            public void execute(Runnable command) {
+                super.execute(StatementCounter.wrap(command));
+            }
+        };
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, REPOSITORY_EXECUTOR);
+    }
+}
@@ -0,0 +1,78 @@
+package study.datajpa.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 엔티티마다 UUID.randomUUID()(SecureRandom), LocalDateTime.now() 를 호출하지 않도록
+ *  - auditor 는 요청당 한 번 (요청이 없으면 트랜잭션당 한 번)
+ *  - 시간은 트랜잭션당 한 번 Clock 에서 읽어서 같은 트랜잭션의 모든 엔티티에 사용한다.
+ * datajpa.auditing.cache-per-transaction=false 이면 기존처럼 매번 계산한다. (benchmark 비교용)
+ */
+@Configuration
+@EnableJpaAuditing(auditorAwareRef = "auditorProvider", dateTimeProviderRef = "auditingDateTimeProvider")
+public class AuditingConfig {
+
+    private static final String AUDITOR_ATTRIBUTE = AuditingConfig.class.getName() + ".AUDITOR";
+
+    // 테스트에서는 @MockBean 또는 @Primary 를 붙인 테스트용 Clock 빈으로 교체한다.
+    // (빈 overriding 이 꺼져 있어 같은 이름의 빈은 등록에 실패하고, 이름이 다르면 Clock 후보가 두 개가 된다.)
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+
+    @Bean
+    public AuditorAware<String> auditorProvider(@Value("${datajpa.auditing.cache-per-transaction:true}") boolean cached) {
+        if (!cached) {
+            return () -> Optional.of(UUID.randomUUID().toString());
+        }
+        TransactionScopedValue<String> auditor = new TransactionScopedValue<>(AuditingConfig::requestAuditor);
+        return () -> Optional.of(auditor.get());
+    }
+
+    @Bean
+    public DateTimeProvider auditingDateTimeProvider(Clock clock,
+                                                     @Value("${datajpa.auditing.cache-per-transaction:true}") boolean cached) {
+        if (!cached) {
+            return () -> Optional.of(LocalDateTime.now(clock));
+        }
+        TransactionScopedValue<LocalDateTime> now = new TransactionScopedValue<>(() -> LocalDateTime.now(clock));
+        return () -> Optional.of(now.get());
+    }
+
+    private static String requestAuditor() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return randomUuid();
+        }
+        String auditor = (String) attributes.getAttribute(AUDITOR_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (auditor == null) {
+            auditor = randomUuid();
+            attributes.setAttribute(AUDITOR_ATTRIBUTE, auditor, RequestAttributes.SCOPE_REQUEST);
+        }
+        return auditor;
+    }
+
+    // 식별용 값이므로 SecureRandom 대신 ThreadLocalRandom 으로 version 4 UUID 를 만든다.
+    private static String randomUuid() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long least = (random.nextLong() & ~(0xC000L << 48)) | (0x8000L << 48);
+        return new UUID(most, least).toString();
+    }
+}
@@ -0,0 +1,51 @@
+package study.datajpa.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.datajpa.dto.MemberDto;
+import study.datajpa.monitor.StartupTimeline;
+import study.datajpa.repository.MemberNameIndex;
+import study.datajpa.repository.MemberRepository;
+
+import java.util.stream.Stream;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * userName 자동완성 index. 기동 시 전체 회원을 한 번 읽고, 이후에는 MemberNameIndexListener 가 commit 된 변경을 반영한다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(AutocompleteProperties.class)
+@ConditionalOnProperty(prefix = "datajpa.autocomplete", name = "enabled", matchIfMissing = true)
+public class AutocompleteConfig {
+
+    @Bean
+    public MemberNameIndex memberNameIndex(AutocompleteProperties properties) {
+        return new MemberNameIndex(properties.getCompactThreshold());
+    }
+
+    // 읽기 전용 트랜잭션은 routing 시 replica 로 가므로, 복제 지연 없이 primary 에서 읽는다.
+    @Bean
+    public ApplicationRunner memberNameIndexLoader(MemberNameIndex memberNameIndex, MemberRepository memberRepository,
+                                                   PlatformTransactionManager transactionManager,
+                                                   ObjectProvider<StartupTimeline> startupTimeline) {
+        return args -> {
+            long start = System.nanoTime();
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                try (Stream<MemberDto> members = memberRepository.streamMemberDto()) {
+                    memberNameIndex.load(members.map(member -> new MemberNameIndex.Entry(member.getUserName(), member.getId())));
+                }
+            });
+            startupTimeline.ifAvailable(timeline -> timeline.mark("autocomplete-loaded"));
+            log.info("member name index loaded. {} names in {} ms", memberNameIndex.size(), (System.nanoTime() - start) / 1_000_000);
+        };
+    }
+}
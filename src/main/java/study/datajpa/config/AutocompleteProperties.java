@@ -0,0 +1,25 @@
+package study.datajpa.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "datajpa.autocomplete")
+public class AutocompleteProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 한 번에 돌려주는 최대 건수.
+     */
+    private int maxResults = 50;
+
+    /**
+     * 기동 이후 변경(추가, 수정, 삭제) 건수가 이 값 또는 전체의 1/8 을 넘으면 정렬 배열을 다시 만든다.
+     */
+    private int compactThreshold = 10_000;
+}
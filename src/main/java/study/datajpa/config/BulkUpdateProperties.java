@@ -0,0 +1,25 @@
+package study.datajpa.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "datajpa.bulk-update")
+public class BulkUpdateProperties {
+
+    /**
+     * 한 트랜잭션에서 처리할 PK 범위의 크기.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * chunk 사이 대기 시간. 다른 트랜잭션이 lock 을 얻을 틈을 준다.
+     */
+    private Duration pause = Duration.ofMillis(10);
+}
@@ -0,0 +1,51 @@
+package study.datajpa.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * cache 별로 크기, TTL 이 다르므로 caffeine spec 을 cache 마다 따로 지정한다.
+ * 트랜잭션 안에서의 evict/put 은 commit 이후에 반영되도록 TransactionAwareCacheManagerProxy 로 감싼다.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheSpecProperties.class)
+public class CacheConfig {
+
+    public static final String MEMBER_CACHE = "members";
+    public static final String MEMBER_COUNT_CACHE = "memberCount";
+
+    // MemberCacheRepository 가 무효화 여부를 확인하면서 직접 저장한다.
+    @Bean
+    public InvalidationTrackingCache memberCache(CacheSpecProperties properties) {
+        String spec = properties.getSpecs().getOrDefault(MEMBER_CACHE, "");
+        return new InvalidationTrackingCache(new CaffeineCache(MEMBER_CACHE, Caffeine.from(spec).build()));
+    }
+
+    @Bean
+    public CacheManager cacheManager(CacheSpecProperties properties, InvalidationTrackingCache memberCache) {
+        List<Cache> caches = properties.getSpecs().entrySet().stream()
+                .filter(spec -> !spec.getKey().equals(MEMBER_CACHE))
+                .map(spec -> new CaffeineCache(spec.getKey(), Caffeine.from(spec.getValue()).build()))
+                .collect(Collectors.toList());
+        caches.add(memberCache);
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(caches);
+        cacheManager.initializeCaches();
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,21 @@
+package study.datajpa.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "datajpa.cache")
+public class CacheSpecProperties {
+
+    /**
+     * cache 이름 -> caffeine spec (ex. maximumSize=10000,expireAfterWrite=10m,recordStats)
+     */
+    private Map<String, String> specs = new LinkedHashMap<>();
+}
@@ -0,0 +1,83 @@
+package study.datajpa.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * spring.datasource 를 primary 로, datajpa.datasource.routing.replicas 를 읽기 전용 replica 로 사용한다.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@ConditionalOnProperty(prefix = "datajpa.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public DataSourcePools dataSourcePools(DataSourceProperties properties, DataSourceRoutingProperties routing) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < routing.getReplicas().size(); i++) {
+            DataSourceRoutingProperties.Replica replica = routing.getReplicas().get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setDriverClassName(properties.determineDriverClassName());
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(StringUtils.hasText(replica.getUsername()) ? replica.getUsername() : properties.determineUsername());
+            dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : properties.determinePassword());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            replicas.add(dataSource);
+        }
+        return new DataSourcePools(primary, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourcePools pools, DataSourceRoutingProperties routing) {
+        ReplicaRoutingDataSource routingDataSource =
+                new ReplicaRoutingDataSource(pools.getPrimary(), pools.getReplicas(), routing.getSelection());
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 커넥션 풀 종료를 위한 holder. DataSource 타입이 아니므로 p6spy 가 감싸지 않는다.
+     */
+    public static class DataSourcePools implements AutoCloseable {
+
+        private final HikariDataSource primary;
+        private final List<HikariDataSource> replicas;
+
+        public DataSourcePools(HikariDataSource primary, List<HikariDataSource> replicas) {
+            this.primary = primary;
+            this.replicas = replicas;
+        }
+
+        public HikariDataSource getPrimary() {
+            return primary;
+        }
+
+        public List<HikariDataSource> getReplicas() {
+            return replicas;
+        }
+
+        @Override
+        public void close() {
+            replicas.forEach(HikariDataSource::close);
+            primary.close();
+        }
+    }
+}
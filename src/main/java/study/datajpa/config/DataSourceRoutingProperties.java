@@ -0,0 +1,37 @@
+package study.datajpa.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "datajpa.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled;
+
+    private Selection selection = Selection.ROUND_ROBIN;
+
+    /**
+     * 읽기 전용 트랜잭션이 사용할 replica 목록. username, password 가 없으면 spring.datasource 값을 사용한다.
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    public enum Selection {
+        ROUND_ROBIN, LEAST_BUSY
+    }
+
+    @Getter @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,27 @@
+package study.datajpa.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * fast-start mode (application-faststart.yml)
+ *  - spring.data.jpa.repositories.bootstrap-mode=deferred : repository 는 지연 프록시로 주입되고,
+ *    EntityManagerFactory 는 applicationTaskExecutor 에서 다른 빈 생성과 동시에 만들어진다.
+ *  - 다른 AsyncTaskExecutor(countQueryExecutor) 가 있으면 Spring Boot 는 이름이 applicationTaskExecutor 인 빈을
+ *    bootstrap executor 로 사용하므로 여기서 직접 등록한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datajpa.fast-start", name = "enabled")
+public class FastStartConfig {
+
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.threadNamePrefix("bootstrap-").build();
+    }
+}
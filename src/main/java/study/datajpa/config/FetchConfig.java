@@ -0,0 +1,84 @@
+package study.datajpa.config;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.mapping.Collection;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 연관관계별 batch fetch size, subselect fetch 를 annotation(@BatchSize, @Fetch) 대신 datajpa.fetch.associations 로 지정한다.
+ * SessionFactory 가 persister 를 만들기 전에 Integrator 에서 mapping 정보를 바꾼다.
+ */
+@Configuration
+@EnableConfigurationProperties(FetchProperties.class)
+public class FetchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer fetchCustomizer(FetchProperties properties) {
+        Integrator integrator = new AssociationFetchIntegrator(properties.getAssociations());
+        return hibernateProperties -> hibernateProperties.put("hibernate.integrator_provider",
+                (IntegratorProvider) () -> Collections.singletonList(integrator));
+    }
+
+    static class AssociationFetchIntegrator implements Integrator {
+
+        private final Map<String, FetchProperties.Association> associations;
+
+        AssociationFetchIntegrator(Map<String, FetchProperties.Association> associations) {
+            this.associations = associations;
+        }
+
+        @Override
+        public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory,
+                              SessionFactoryServiceRegistry serviceRegistry) {
+            Set<String> applied = new HashSet<>();
+            for (PersistentClass entity : metadata.getEntityBindings()) {
+                FetchProperties.Association association = associations.get(entity.getJpaEntityName());
+                if (association != null && association.getBatchSize() != null) {
+                    entity.setBatchSize(association.getBatchSize());
+                    applied.add(entity.getJpaEntityName());
+                }
+            }
+            for (Collection collection : metadata.getCollectionBindings()) {
+                PersistentClass owner = collection.getOwner();
+                String key = owner.getJpaEntityName() + collection.getRole().substring(owner.getEntityName().length());
+                FetchProperties.Association association = associations.get(key);
+                if (association == null) {
+                    continue;
+                }
+                if (association.getBatchSize() != null) {
+                    collection.setBatchSize(association.getBatchSize());
+                }
+                if (association.isSubselect()) {
+                    collection.setSubselectLoadable(true);
+                    owner.setSubselectLoadableCollections(true);
+                }
+                applied.add(key);
+            }
+
+            Set<String> unknown = new HashSet<>(associations.keySet());
+            unknown.removeAll(applied);
+            if (!unknown.isEmpty()) { // 오타로 설정이 무시되지 않도록
+                throw new IllegalStateException("unknown datajpa.fetch.associations : " + unknown);
+            }
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package study.datajpa.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "datajpa.fetch")
+public class FetchProperties {
+
+    /**
+     * 엔티티 이름(Team : 프록시) 또는 엔티티 이름.컬렉션(Team.members) -> 지연 로딩 방식.
+     * 지정하지 않은 연관관계는 hibernate.default_batch_fetch_size 를 사용한다.
+     * 대소문자, '.' 이 유지되도록 key 는 "[Team.members]" 처럼 [] 로 감싼다.
+     */
+    private Map<String, Association> associations = new LinkedHashMap<>();
+
+    @Getter @Setter
+    public static class Association {
+
+        /**
+         * 프록시, 컬렉션 초기화 시 in 절로 함께 조회할 최대 개수. (@BatchSize)
+         */
+        private Integer batchSize;
+
+        /**
+         * 컬렉션 초기화 시 처음 조회한 쿼리를 서브쿼리로 다시 실행해서 모든 owner 의 컬렉션을 한번에 조회한다. (@Fetch(SUBSELECT))
+         */
+        private boolean subselect = false;
+    }
+}
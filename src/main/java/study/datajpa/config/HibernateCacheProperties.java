@@ -0,0 +1,30 @@
+package study.datajpa.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "datajpa.hibernate-cache")
+public class HibernateCacheProperties {
+
+    private boolean enabled;
+
+    /**
+     * region 이름 -> eviction 설정
+     */
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Getter @Setter
+    public static class Region {
+        private long maximumSize = 1000;
+        private Duration expireAfterWrite;
+    }
+}
@@ -0,0 +1,29 @@
+package study.datajpa.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.Assert;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "datajpa.in-clause")
+public class InClauseProperties {
+
+    /**
+     * in 절 하나에 넣을 최대 파라미터 수. padding 후에도 DB 파라미터 제한을 넘지 않아야 한다.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 트랜잭션 밖에서 호출되면 chunk 를 동시에 조회한다. (결과는 준영속 엔티티)
+     */
+    private boolean parallel = false;
+
+    public void setChunkSize(int chunkSize) {
+        Assert.isTrue(chunkSize > 0, "datajpa.in-clause.chunk-size must be positive");
+        this.chunkSize = chunkSize;
+    }
+}
@@ -0,0 +1,106 @@
+package study.datajpa.config;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * evict, clear 횟수(epoch)를 세는 Cache. read-through 캐시가 DB 에서 읽은 값을 넣기 전에
+ * 그 사이에 무효화가 있었는지 확인해서, 먼저 읽은 오래된 값이 무효화 이후에 다시 캐시되지 않도록 한다.
+ */
+public class InvalidationTrackingCache implements Cache {
+
+    private final Cache target;
+    private final AtomicLong epoch = new AtomicLong();
+
+    public InvalidationTrackingCache(Cache target) {
+        this.target = target;
+    }
+
+    /**
+     * DB 에서 읽기 전에 호출해서 putIfNotInvalidated 에 넘긴다.
+     */
+    public long epoch() {
+        return epoch.get();
+    }
+
+    /**
+     * epoch 이후에 무효화가 없었을 때만 저장한다.
+     * 확인과 저장 사이에 무효화가 끼어들 수 있으므로 저장한 뒤에 한 번 더 확인하고, 바뀌었으면 저장한 값을 지운다.
+     *
+     * @return 캐시에 남았으면 true
+     */
+    public boolean putIfNotInvalidated(Object key, Object value, long epoch) {
+        if (this.epoch.get() != epoch) {
+            return false;
+        }
+        target.put(key, value);
+        if (this.epoch.get() != epoch) {
+            target.evictIfPresent(key);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return target.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return target.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return target.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return target.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return target.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        target.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return target.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        epoch.incrementAndGet(); // 무효화를 먼저 알린 뒤에 지운다.
+        target.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        epoch.incrementAndGet();
+        return target.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        epoch.incrementAndGet();
+        target.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        epoch.incrementAndGet();
+        return target.invalidate();
+    }
+}
@@ -0,0 +1,26 @@
+package study.datajpa.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "datajpa.optimistic-lock-retry")
+public class OptimisticLockRetryProperties {
+
+    /**
+     * 첫 시도를 포함한 최대 실행 횟수.
+     */
+    private int maxAttempts = 5;
+
+    private Duration initialBackoff = Duration.ofMillis(10);
+
+    private double multiplier = 2.0;
+
+    private Duration maxBackoff = Duration.ofMillis(500);
+}
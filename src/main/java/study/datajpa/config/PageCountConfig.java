@@ -0,0 +1,38 @@
+package study.datajpa.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.Assert;
+import study.datajpa.monitor.StatementCounter;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@Configuration
+@EnableConfigurationProperties(PageCountProperties.class)
+public class PageCountConfig {
+
+    public static final String COUNT_QUERY_EXECUTOR = "countQueryExecutor";
+
+    @Bean(COUNT_QUERY_EXECUTOR)
+    public ThreadPoolTaskExecutor countQueryExecutor(PageCountProperties properties,
+                                                     @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        Assert.state(properties.getPoolSize() <= connectionPoolSize / 2,
+                "datajpa.page-count.pool-size must be at most half of the connection pool size (" + connectionPoolSize + ")");
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("count-query-");
+        executor.setTaskDecorator(StatementCounter::wrap); // count 쿼리도 요청의 statement 수에 포함
+        // 밀리면 거절하고 PageQueryExecutor 가 요청 스레드의 커넥션으로 count 를 실행한다.
+        // (CallerRunsPolicy 는 요청 스레드에서 REQUIRES_NEW 로 커넥션을 하나 더 잡는다.)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,33 @@
+package study.datajpa.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "datajpa.page-count")
+public class PageCountProperties {
+
+    /**
+     * count 쿼리를 별도 커넥션에서 content 쿼리와 동시에 실행한다.
+     */
+    private boolean async = true;
+
+    /**
+     * count 전용 스레드 수. 요청 스레드가 쓸 커넥션이 남도록 커넥션 풀 크기의 절반 이하여야 한다.
+     */
+    private int poolSize = 2;
+
+    private int queueCapacity = 100;
+
+    /**
+     * content 조회 후 count 를 기다리는 시간. 그때까지 count 가 커넥션을 얻지 못했으면 요청 스레드에서 직접 실행한다.
+     * (요청 스레드들이 커넥션을 모두 잡고 count 를 기다리는 교착 방지)
+     */
+    private Duration timeout = Duration.ofMillis(100);
+}
@@ -0,0 +1,67 @@
+package study.datajpa.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 replica 로, 나머지는 primary 로 보낸다.
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 등록되지 않으므로 LazyConnectionDataSourceProxy 로 감싸서 사용해야 한다.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final DataSourceRoutingProperties.Selection selection;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicas,
+                                    DataSourceRoutingProperties.Selection selection) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.selection = selection;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return determineTarget().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return determineTarget().getConnection(username, password);
+    }
+
+    DataSource determineTarget() {
+        if (replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return primary;
+        }
+        if (selection == DataSourceRoutingProperties.Selection.LEAST_BUSY) {
+            return leastBusy();
+        }
+        return replicas.get(Math.floorMod(sequence.getAndIncrement(), replicas.size()));
+    }
+
+    private DataSource leastBusy() {
+        HikariDataSource selected = replicas.get(0);
+        int min = Integer.MAX_VALUE;
+        for (HikariDataSource replica : replicas) {
+            HikariPoolMXBean pool = replica.getHikariPoolMXBean(); // 첫 커넥션 전에는 null
+            int active = pool != null ? pool.getActiveConnections() : 0;
+            if (active < min) {
+                min = active;
+                selected = replica;
+            }
+        }
+        return selected;
+    }
+}
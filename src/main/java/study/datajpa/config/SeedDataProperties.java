@@ -0,0 +1,25 @@
+package study.datajpa.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "datajpa.seed")
+public class SeedDataProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 저장할 회원 수. (user0, user1, ...)
+     */
+    private int members = 100;
+
+    /**
+     * 기동 스레드를 막지 않고 별도 스레드에서 저장한다.
+     */
+    private boolean async = false;
+}
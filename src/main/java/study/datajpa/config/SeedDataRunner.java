@@ -0,0 +1,65 @@
+package study.datajpa.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import study.datajpa.entity.Member;
+import study.datajpa.monitor.StartupTimeline;
+import study.datajpa.repository.MemberRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 샘플 회원 데이터. (기존 MemberController.init 의 @PostConstruct 대신)
+ * 컨텍스트 기동이 끝난 뒤 batch insert 로 저장하고, async 이면 기동 스레드를 막지 않는다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(SeedDataProperties.class)
+@ConditionalOnProperty(prefix = "datajpa.seed", name = "enabled", matchIfMissing = true)
+public class SeedDataRunner implements ApplicationRunner {
+
+    private final MemberRepository memberRepository;
+    private final SeedDataProperties properties;
+    private final ObjectProvider<StartupTimeline> startupTimeline;
+
+    public SeedDataRunner(MemberRepository memberRepository, SeedDataProperties properties,
+                          ObjectProvider<StartupTimeline> startupTimeline) {
+        this.memberRepository = memberRepository;
+        this.properties = properties;
+        this.startupTimeline = startupTimeline;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (properties.isAsync()) {
+            new SimpleAsyncTaskExecutor("seed-").execute(this::seed);
+        } else {
+            seed();
+        }
+    }
+
+    private void seed() {
+        try {
+            List<Member> members = new ArrayList<>();
+            for (int i = 0; i < properties.getMembers(); i++) {
+                members.add(new Member("user" + i, i));
+            }
+            memberRepository.saveAllBatched(members);
+            startupTimeline.ifAvailable(timeline -> timeline.mark("seeded"));
+        } catch (RuntimeException e) {
+            log.error("seed data failed", e);
+            if (!properties.isAsync()) {
+                throw e;
+            }
+        }
+    }
+}
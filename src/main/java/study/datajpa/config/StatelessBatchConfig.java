@@ -0,0 +1,12 @@
+package study.datajpa.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@Configuration
+@EnableConfigurationProperties(StatelessBatchProperties.class)
+public class StatelessBatchConfig {
+}
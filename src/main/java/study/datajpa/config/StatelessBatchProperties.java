@@ -0,0 +1,23 @@
+package study.datajpa.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "datajpa.stateless-batch")
+public class StatelessBatchProperties {
+
+    /**
+     * 한 트랜잭션에서 insert/update 할 건수. JDBC batch 는 hibernate.jdbc.batch_size 단위로 실행된다.
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * scroll 조회 시 JDBC fetch size.
+     */
+    private int fetchSize = 1000;
+}
@@ -0,0 +1,59 @@
+package study.datajpa.config;
+
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 트랜잭션 동안 한 번만 계산해서 재사용하는 값. 트랜잭션 밖에서는 매번 계산한다.
+ * REQUIRES_NEW 로 중단된 바깥 트랜잭션의 값은 안쪽 트랜잭션이 끝나면 다시 사용된다.
+ */
+public class TransactionScopedValue<T> {
+
+    private final Supplier<T> supplier;
+
+    public TransactionScopedValue(Supplier<T> supplier) {
+        this.supplier = supplier;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return supplier.get();
+        }
+        T value = (T) TransactionSynchronizationManager.getResource(this);
+        if (value == null) {
+            value = supplier.get();
+            TransactionSynchronizationManager.bindResource(this, value);
+            TransactionSynchronizationManager.registerSynchronization(new Unbinder(value));
+        }
+        return value;
+    }
+
+    private class Unbinder extends TransactionSynchronizationAdapter {
+
+        private final T value;
+
+        Unbinder(T value) {
+            this.value = value;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TransactionScopedValue.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(TransactionScopedValue.this, value);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TransactionScopedValue.this);
+        }
+    }
+}
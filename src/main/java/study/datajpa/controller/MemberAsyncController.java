@@ -0,0 +1,55 @@
+package study.datajpa.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import study.datajpa.dto.MemberDto;
+import study.datajpa.repository.MemberRepository;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 쿼리는 repository 전용 executor 에서 실행되고, 요청 스레드는 바로 반환된다. (Servlet async)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/async")
+public class MemberAsyncController {
+
+    private final MemberRepository memberRepository;
+
+    @GetMapping("/members")
+    public CompletableFuture<List<MemberDto>> findByUserName(@RequestParam("userName") String userName) {
+        return memberRepository.findAsyncByUserName(userName)
+                .thenApply(members -> members.stream()
+                        .map(MemberDto::new)
+                        .collect(Collectors.toList()));
+    }
+
+    @GetMapping("/members/age/{age}")
+    public CompletableFuture<Page<MemberDto>> findByAge(@PathVariable("age") int age,
+                                                        @PageableDefault(size = 5) Pageable pageable) {
+        return memberRepository.findAsyncByAge(age, pageable)
+                .thenApply(page -> page.map(MemberDto::new));
+    }
+
+    @GetMapping("/members/dto")
+    public CompletableFuture<List<MemberDto>> findMemberDto() {
+        return memberRepository.findAsyncMemberDto();
+    }
+
+    // executor 대기열이 가득 차면 DB 가 처리할 수 있는 양을 넘은 것이므로 바로 거절한다.
+    @ExceptionHandler(RejectedExecutionException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public String rejected(RejectedExecutionException e) {
+        return "too many in-flight queries";
+    }
+}
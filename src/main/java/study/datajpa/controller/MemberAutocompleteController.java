@@ -0,0 +1,38 @@
+package study.datajpa.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import study.datajpa.config.AutocompleteProperties;
+import study.datajpa.dto.MemberNameDto;
+import study.datajpa.repository.MemberNameIndex;
+
+import java.util.List;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * userName 자동완성. DB, 영속성 컨텍스트를 거치지 않고 MemberNameIndex 에서 바로 응답한다.
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "datajpa.autocomplete", name = "enabled", matchIfMissing = true)
+public class MemberAutocompleteController {
+
+    private final MemberNameIndex memberNameIndex;
+    private final AutocompleteProperties properties;
+
+    // GET /members/autocomplete?prefix=user1&size=10
+    @GetMapping("/members/autocomplete")
+    public List<MemberNameDto> autocomplete(@RequestParam("prefix") String prefix,
+                                            @RequestParam(value = "size", defaultValue = "10") int size) {
+        if (size < 1 || size > properties.getMaxResults()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be between 1 and " + properties.getMaxResults());
+        }
+        return memberNameIndex.complete(prefix, size);
+    }
+}
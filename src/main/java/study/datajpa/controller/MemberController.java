@@ -2,16 +2,27 @@ package study.datajpa.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import study.datajpa.dto.MemberCursor;
+import study.datajpa.dto.MemberCursorPage;
 import study.datajpa.dto.MemberDto;
-import study.datajpa.entity.Member;
+import study.datajpa.dto.MemberSearchCondition;
+import study.datajpa.repository.MemberCacheRepository;
+import study.datajpa.repository.MemberPageRepository;
 import study.datajpa.repository.MemberRepository;
+import study.datajpa.repository.MemberSearchRepository;
 
-import javax.annotation.PostConstruct;
+import java.util.List;
 
 /**
  * Created by morrie kim on 2020/12/13.
@@ -20,29 +31,72 @@ import javax.annotation.PostConstruct;
 @RequiredArgsConstructor
 public class MemberController {
 
+    private static final Sort KEYSET_SORT = Sort.by("userName");
+
     private final MemberRepository memberRepository;
+    private final MemberCacheRepository memberCacheRepository;
+    private final MemberPageRepository memberPageRepository;
+    private final MemberSearchRepository memberSearchRepository;
 
     @GetMapping("/members/{id}")
     public String findMember3(@PathVariable("id") Long id) {
-        Member member = memberRepository.findById(id).get();
+        MemberDto member = memberCacheRepository.findById(id).get();
         return member.getUserName();
     }
 
+    // 도메인 클래스 컨버터(@PathVariable("id") Member member)는 매번 findById 를 호출하므로 캐시를 거치도록 id 로 받는다.
     @GetMapping("/members2/{id}")
-    public String findMember(@PathVariable("id") Member member) {
+    public String findMember(@PathVariable("id") Long id) {
+        MemberDto member = memberCacheRepository.findById(id).get();
         return member.getUserName();
     }
 
     @GetMapping("/members")
     public Page<MemberDto> list(@PageableDefault(size = 5) Pageable pageable) {
-        Page<Member> page = memberRepository.findAll(pageable);
-        return page.map(MemberDto::new);
+        return memberPageRepository.findMemberDto(pageable);
+    }
+
+    // GET /members/search?userName=user&teamName=teamA&ageGoe=10&ageLoe=20&sort=age,desc
+    @GetMapping("/members/search")
+    public Page<MemberDto> search(MemberSearchCondition condition, @PageableDefault(size = 5) Pageable pageable) {
+        try {
+            return memberSearchRepository.search(condition, pageable);
+        } catch (IllegalArgumentException e) { // 지원하지 않는 정렬 속성
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * keyset 페이징. 첫 페이지는 cursor 를 빈 값으로 호출하고, 이후에는 응답의 nextCursor 를 넘긴다.
+     * offset, count 쿼리가 없으므로 페이지 깊이와 관계없이 응답 시간이 일정하다.
+     * 정렬은 (userName, id) 오름차순으로 고정이며 다른 sort 는 400 으로 거절한다.
+     */
+    @GetMapping(value = "/members", params = "cursor")
+    public MemberCursorPage listByCursor(@RequestParam("cursor") String cursor,
+                                         @PageableDefault(size = 5) Pageable pageable) {
+        if (pageable.getSort().isSorted() && !pageable.getSort().equals(KEYSET_SORT)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "cursor paging only supports sort=userName,asc");
+        }
+        int size = pageable.getPageSize();
+        PageRequest limit = PageRequest.of(0, size + 1); // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+
+        List<MemberDto> rows;
+        if (StringUtils.isEmpty(cursor)) {
+            rows = memberRepository.findMemberDtoFirstKeyset(limit);
+        } else {
+            MemberCursor after = decodeCursor(cursor);
+            rows = after.getUserName() == null
+                    ? memberRepository.findMemberDtoAfterNullKeyset(after.getId(), limit)
+                    : memberRepository.findMemberDtoAfterKeyset(after.getUserName(), after.getId(), limit);
+        }
+        return MemberCursorPage.of(rows, size);
     }
 
-    @PostConstruct
-    public void init() {
-        for (int i = 0; i < 100; i++) {
-            memberRepository.save(new Member("user" + i, i));
+    private MemberCursor decodeCursor(String cursor) {
+        try {
+            return MemberCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
         }
     }
 }
@@ -0,0 +1,95 @@
+package study.datajpa.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import study.datajpa.dto.MemberDto;
+import study.datajpa.repository.MemberRepository;
+
+import javax.persistence.EntityManager;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 전체 회원 export. 결과를 List 로 모으지 않고 조회되는 대로 응답에 기록하므로 건수와 관계없이 heap 사용량이 일정하다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class MemberExportController {
+
+    private static final int FLUSH_SIZE = 1000;
+
+    private final MemberRepository memberRepository;
+    private final EntityManager em;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true) // Stream 을 읽는 동안 커넥션이 열려 있어야 한다.
+    @GetMapping("/members/export")
+    public void export(@RequestParam(value = "format", defaultValue = "ndjson") String format,
+                       HttpServletResponse response) throws IOException {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "unsupported format : " + format);
+        }
+
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType(csv ? "text/csv" : "application/x-ndjson");
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        if (csv) {
+            writer.write("id,userName,teamName\n");
+        }
+
+        try (Stream<MemberDto> stream = memberRepository.streamMemberDto()) {
+            Iterator<MemberDto> iterator = stream.iterator();
+            int count = 0;
+            while (iterator.hasNext()) {
+                MemberDto dto = iterator.next();
+                if (csv) {
+                    writeCsv(writer, dto);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(dto));
+                    writer.write('\n');
+                }
+
+                if (++count % FLUSH_SIZE == 0) {
+                    writer.flush(); // 클라이언트로 바로 내보낸다.
+                    em.clear(); // DTO 조회라 관리 엔티티는 없지만, 같은 트랜잭션에서 로딩된 것이 있다면 비운다.
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeCsv(Writer writer, MemberDto dto) throws IOException {
+        writer.write(String.valueOf(dto.getId()));
+        writer.write(',');
+        writer.write(escapeCsv(dto.getUserName()));
+        writer.write(',');
+        writer.write(escapeCsv(dto.getTeamName()));
+        writer.write('\n');
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,58 @@
+package study.datajpa.dto;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * keyset 페이징용 커서. (userName, id) 를 불투명한 문자열로 인코딩한다.
+ * userName 이 null 이면 구분자 없이 id 만 인코딩한다. ("null" 문자열과 구분)
+ */
+@Getter
+public class MemberCursor {
+
+    private static final char SEPARATOR = ':';
+
+    private final String userName;
+    private final Long id;
+
+    public MemberCursor(String userName, Long id) {
+        this.userName = userName;
+        this.id = id;
+    }
+
+    public static MemberCursor of(MemberDto last) {
+        return new MemberCursor(last.getUserName(), last.getId());
+    }
+
+    public String encode() {
+        String raw = userName == null ? String.valueOf(id) : id + String.valueOf(SEPARATOR) + userName;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MemberCursor decode(String cursor) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid cursor : " + cursor, e);
+        }
+
+        int index = raw.indexOf(SEPARATOR); // userName 에 ':' 이 포함될 수 있으므로 첫번째 구분자로만 나눈다.
+        if (index == 0 || raw.isEmpty()) {
+            throw new IllegalArgumentException("invalid cursor : " + cursor);
+        }
+
+        try {
+            if (index < 0) {
+                return new MemberCursor(null, Long.valueOf(raw));
+            }
+            return new MemberCursor(raw.substring(index + 1), Long.valueOf(raw.substring(0, index)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid cursor : " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package study.datajpa.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * keyset 페이징 결과. count 쿼리를 실행하지 않으므로 totalElements 는 없다.
+ */
+@Getter
+public class MemberCursorPage {
+
+    private final List<MemberDto> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    private MemberCursorPage(List<MemberDto> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * @param rows size + 1 건으로 조회한 결과. 초과분이 있으면 다음 페이지가 있는 것으로 판단한다.
+     */
+    public static MemberCursorPage of(List<MemberDto> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<MemberDto> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? MemberCursor.of(content.get(content.size() - 1)).encode() : null;
+        return new MemberCursorPage(content, size, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,15 @@
+package study.datajpa.dto;
+
+import lombok.Data;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 자동완성 결과. (MemberNameIndex)
+ */
+@Data
+public class MemberNameDto {
+
+    private final Long id;
+    private final String userName;
+}
@@ -0,0 +1,17 @@
+package study.datajpa.dto;
+
+import lombok.Data;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 회원 검색 조건. null(또는 빈 문자열)인 조건은 사용하지 않는다.
+ */
+@Data
+public class MemberSearchCondition {
+
+    private String userName; // 앞부분 일치
+    private String teamName;
+    private Integer ageGoe;
+    private Integer ageLoe;
+}
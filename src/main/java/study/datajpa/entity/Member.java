@@ -1,6 +1,10 @@
 package study.datajpa.entity;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 
@@ -9,22 +13,41 @@ import javax.persistence.*;
  * Created by morrie kim on 2020/08/17.
  */
 @Entity
+@Table(indexes = {
+        // userName 조회(findByUserName, findLockByUserName, findByNativeQuery, in 절)와 userName + age 조건을 함께 처리
+        @Index(name = "idx_member_user_name_age", columnList = "userName, age"),
+        @Index(name = "idx_member_age", columnList = "age") // findByAge, countByAge, bulkAgePlus
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member") // datajpa.hibernate-cache.enabled 일 때만 사용
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(of = {"id", "userName", "age"})
 @NamedQuery(
         name="Member.findByUserName",
-        query="select m from Member m where m.userName = :userName"
+        query="select m from Member m where m.userName = :userName",
+        hints = {
+                @QueryHint(name = "org.hibernate.cacheable", value = "true"), // 쿼리 캐시 (query_cache 설정 시)
+                @QueryHint(name = "org.hibernate.cacheRegion", value = "member-by-user-name")
+        }
 )
 @NamedEntityGraph(name = "Member.all", attributeNodes = @NamedAttributeNode("team"))
+@EntityListeners({MemberCacheListener.class, MemberNameIndexListener.class})
 public class Member extends BaseEntity{
 
-    @Id @GeneratedValue
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @GenericGenerator(name = "member_seq", strategy = "study.datajpa.entity.PooledSequenceGenerator",
+            parameters = @Parameter(name = "sequence_name", value = "member_seq"))
     @Column(name = "member_id")
     private Long id;
     private String userName;
     private int age;
 
+    @Version // 낙관적 락 : 수정 시 version 이 다르면 ObjectOptimisticLockingFailureException
+    @Setter(AccessLevel.NONE)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team_id")
     private Team team;
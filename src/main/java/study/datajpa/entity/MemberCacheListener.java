@@ -0,0 +1,47 @@
+package study.datajpa.entity;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import study.datajpa.config.CacheConfig;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * Member 가 수정, 삭제되면 id 조회 캐시를, 추가, 수정, 삭제되면 count 캐시를 비운다. (트랜잭션 commit 이후 반영)
+ * hibernate 가 SpringBeanContainer 를 통해 생성하므로 CacheManager 를 주입받을 수 있다.
+ */
+public class MemberCacheListener {
+
+    private final CacheManager cacheManager;
+
+    public MemberCacheListener(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(Member member) {
+        Cache cache = cacheManager.getCache(CacheConfig.MEMBER_CACHE);
+        if (cache != null && member.getId() != null) {
+            cache.evict(member.getId());
+        }
+        clearCount();
+    }
+
+    @PostPersist
+    public void clearCount(Member member) {
+        clearCount();
+    }
+
+    // count 캐시는 조건별로 저장되어 있어 어떤 항목이 바뀌는지 알 수 없으므로 전체를 비운다.
+    private void clearCount() {
+        Cache cache = cacheManager.getCache(CacheConfig.MEMBER_COUNT_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
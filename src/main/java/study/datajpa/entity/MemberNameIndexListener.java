@@ -0,0 +1,57 @@
+package study.datajpa.entity;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import study.datajpa.repository.MemberNameIndex;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import java.util.function.Consumer;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * Member 의 추가, 수정, 삭제를 자동완성 index 에 반영한다. flush 시점이 아니라 commit 이후에 반영해서 rollback 된 변경은 남지 않는다.
+ * JPQL bulk 연산(update, delete)은 엔티티 이벤트가 없으므로 반영되지 않는다. (bulkAgePlus 는 userName 을 바꾸지 않는다.)
+ */
+public class MemberNameIndexListener {
+
+    private final ObjectProvider<MemberNameIndex> memberNameIndex;
+
+    public MemberNameIndexListener(ObjectProvider<MemberNameIndex> memberNameIndex) {
+        this.memberNameIndex = memberNameIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void put(Member member) {
+        Long id = member.getId();
+        String userName = member.getUserName(); // commit 전에 다시 바뀔 수 있으므로 지금 값을 사용
+        afterCommit(index -> index.put(id, userName));
+    }
+
+    @PostRemove
+    public void remove(Member member) {
+        Long id = member.getId();
+        afterCommit(index -> index.remove(id));
+    }
+
+    private void afterCommit(Consumer<MemberNameIndex> change) {
+        MemberNameIndex index = memberNameIndex.getIfAvailable();
+        if (index == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.accept(index);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.accept(index);
+            }
+        });
+    }
+}
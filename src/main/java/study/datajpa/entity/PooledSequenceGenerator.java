@@ -0,0 +1,47 @@
+package study.datajpa.entity;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 엔티티별 sequence 를 pooled-lo 방식으로 사용하는 generator.
+ * allocation size 는 아래 설정으로 변경할 수 있다. (spring.jpa.properties 하위)
+ *  - datajpa.id.increment_size : 전체 기본값
+ *  - datajpa.id.{sequence_name}.increment_size : sequence 별 값
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    public static final String INCREMENT_SIZE_SETTING = "datajpa.id.increment_size";
+    public static final int DEFAULT_INCREMENT_SIZE = 50;
+    public static final String DEFAULT_OPTIMIZER = "pooled-lo";
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        Map<?, ?> settings = serviceRegistry.getService(ConfigurationService.class).getSettings();
+        String sequenceName = params.getProperty(SEQUENCE_PARAM);
+
+        if (!params.containsKey(INCREMENT_PARAM)) {
+            Object incrementSize = settings.get("datajpa.id." + sequenceName + ".increment_size");
+            if (incrementSize == null) {
+                incrementSize = settings.get(INCREMENT_SIZE_SETTING);
+            }
+            if (incrementSize == null) {
+                incrementSize = DEFAULT_INCREMENT_SIZE;
+            }
+            params.setProperty(INCREMENT_PARAM, incrementSize.toString());
+        }
+        if (!params.containsKey(OPT_PARAM)) {
+            params.setProperty(OPT_PARAM, DEFAULT_OPTIMIZER);
+        }
+
+        super.configure(type, params, serviceRegistry);
+    }
+}
@@ -0,0 +1,32 @@
+package study.datajpa.entity;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import study.datajpa.config.CacheConfig;
+
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * id 조회 캐시의 MemberDto 는 teamName 을 가지고 있으므로 Team 이 수정, 삭제되면 비운다. (트랜잭션 commit 이후 반영)
+ * 어떤 회원이 그 팀에 속하는지는 members 를 로딩해야 알 수 있으므로 항목별 evict 대신 전체를 비운다.
+ */
+public class TeamCacheListener {
+
+    private final CacheManager cacheManager;
+
+    public TeamCacheListener(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(Team team) {
+        Cache cache = cacheManager.getCache(CacheConfig.MEMBER_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package study.datajpa.monitor;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.Clock;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@Configuration
+@EnableConfigurationProperties(HibernateStatisticsProperties.class)
+@ConditionalOnProperty(prefix = "datajpa.hibernate-stats", name = "enabled")
+public class HibernateStatisticsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateStatisticsCustomizer() {
+        // hibernate.* metric (hibernate.cache.query.plan hit/miss 등)도 이 설정이 켜져 있을 때만 값이 쌓인다.
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+    }
+
+    @Bean
+    public HibernateStatisticsEndpoint hibernateStatisticsEndpoint(EntityManagerFactory entityManagerFactory, Clock clock,
+                                                                   HibernateStatisticsProperties properties) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        return new HibernateStatisticsEndpoint(sessionFactory.getStatistics(), clock, properties.getHistory());
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService hibernateStatisticsSnapshotScheduler(HibernateStatisticsEndpoint endpoint,
+                                                                         HibernateStatisticsProperties properties) {
+        ScheduledExecutorService scheduler =
+                Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("hibernate-stats-"));
+        long interval = properties.getSnapshotInterval().toMillis();
+        if (interval > 0) {
+            scheduler.scheduleAtFixedRate(endpoint::snapshot, interval, interval, TimeUnit.MILLISECONDS);
+        }
+        return scheduler;
+    }
+}
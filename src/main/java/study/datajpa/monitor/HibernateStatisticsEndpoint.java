@@ -0,0 +1,72 @@
+package study.datajpa.monitor;
+
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * GET    /actuator/hibernatestats : 누적 값, 마지막 snapshot 이후 증가분, 최근 구간별 증가분
+ * POST   /actuator/hibernatestats : 지금 snapshot 을 남긴다.
+ * DELETE /actuator/hibernatestats : Statistics 와 snapshot 을 초기화한다.
+ */
+@Endpoint(id = "hibernatestats")
+public class HibernateStatisticsEndpoint {
+
+    private final Statistics statistics;
+    private final Clock clock;
+    private final int history;
+    private final Deque<HibernateStatisticsSnapshot> deltas = new ArrayDeque<>();
+    private HibernateStatisticsSnapshot last;
+
+    public HibernateStatisticsEndpoint(Statistics statistics, Clock clock, int history) {
+        this.statistics = statistics;
+        this.clock = clock;
+        this.history = history;
+        this.last = current();
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> statistics() {
+        HibernateStatisticsSnapshot current = current();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        result.put("total", current);
+        result.put("sinceLastSnapshot", current.minus(last));
+        result.put("history", new ArrayList<>(deltas));
+        return result;
+    }
+
+    @WriteOperation
+    public synchronized HibernateStatisticsSnapshot snapshot() {
+        HibernateStatisticsSnapshot current = current();
+        HibernateStatisticsSnapshot delta = current.minus(last);
+        last = current;
+        deltas.addFirst(delta);
+        while (deltas.size() > history) {
+            deltas.removeLast();
+        }
+        return delta;
+    }
+
+    @DeleteOperation
+    public synchronized void reset() {
+        statistics.clear();
+        deltas.clear();
+        last = current();
+    }
+
+    private HibernateStatisticsSnapshot current() {
+        return HibernateStatisticsSnapshot.of(statistics, clock.instant());
+    }
+}
@@ -0,0 +1,31 @@
+package study.datajpa.monitor;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "datajpa.hibernate-stats")
+public class HibernateStatisticsProperties {
+
+    /**
+     * /actuator/hibernatestats 사용 여부. 켜면 hibernate.generate_statistics 도 함께 켠다.
+     * 모든 세션에 통계 수집 비용이 붙으므로 기본은 꺼 둔다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 주기적으로 snapshot 을 남기는 간격. 0 이면 endpoint 호출 시에만 snapshot 을 남긴다.
+     */
+    private Duration snapshotInterval = Duration.ofMinutes(1);
+
+    /**
+     * 보관할 구간(delta) 수.
+     */
+    private int history = 10;
+}
@@ -0,0 +1,119 @@
+package study.datajpa.monitor;
+
+import lombok.Getter;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * SessionFactory Statistics 의 한 시점 값. minus 로 두 시점 사이의 증가분을 구한다.
+ * (maxTime 은 누적 최대값이므로 구간 값이 아니다.)
+ */
+@Getter
+public class HibernateStatisticsSnapshot {
+
+    private final Instant from;
+    private final Instant to;
+    private final Map<String, Long> counters;
+    private final Map<String, QuerySnapshot> queries;
+
+    private HibernateStatisticsSnapshot(Instant from, Instant to, Map<String, Long> counters, Map<String, QuerySnapshot> queries) {
+        this.from = from;
+        this.to = to;
+        this.counters = counters;
+        this.queries = queries;
+    }
+
+    public static HibernateStatisticsSnapshot of(Statistics statistics, Instant now) {
+        Map<String, Long> counters = new LinkedHashMap<>();
+        counters.put("sessionOpen", statistics.getSessionOpenCount());
+        counters.put("transaction", statistics.getTransactionCount());
+        counters.put("prepareStatement", statistics.getPrepareStatementCount());
+        counters.put("flush", statistics.getFlushCount());
+        counters.put("entityLoad", statistics.getEntityLoadCount());
+        counters.put("entityFetch", statistics.getEntityFetchCount());
+        counters.put("entityInsert", statistics.getEntityInsertCount());
+        counters.put("entityUpdate", statistics.getEntityUpdateCount());
+        counters.put("entityDelete", statistics.getEntityDeleteCount());
+        counters.put("collectionLoad", statistics.getCollectionLoadCount());
+        counters.put("collectionFetch", statistics.getCollectionFetchCount());
+        counters.put("queryExecution", statistics.getQueryExecutionCount());
+        counters.put("queryExecutionMaxTime", statistics.getQueryExecutionMaxTime());
+        counters.put("secondLevelCacheHit", statistics.getSecondLevelCacheHitCount());
+        counters.put("secondLevelCacheMiss", statistics.getSecondLevelCacheMissCount());
+        counters.put("secondLevelCachePut", statistics.getSecondLevelCachePutCount());
+        counters.put("queryCacheHit", statistics.getQueryCacheHitCount());
+        counters.put("queryCacheMiss", statistics.getQueryCacheMissCount());
+        counters.put("queryPlanCacheHit", statistics.getQueryPlanCacheHitCount());
+        counters.put("queryPlanCacheMiss", statistics.getQueryPlanCacheMissCount());
+        counters.put("optimisticFailure", statistics.getOptimisticFailureCount());
+
+        Map<String, QuerySnapshot> queries = new LinkedHashMap<>();
+        for (String query : statistics.getQueries()) {
+            queries.put(query, QuerySnapshot.of(statistics.getQueryStatistics(query)));
+        }
+        return new HibernateStatisticsSnapshot(null, now, counters, queries);
+    }
+
+    public HibernateStatisticsSnapshot minus(HibernateStatisticsSnapshot previous) {
+        Map<String, Long> counters = new LinkedHashMap<>();
+        this.counters.forEach((name, value) -> counters.put(name,
+                name.endsWith("MaxTime") ? value : value - previous.counters.getOrDefault(name, 0L)));
+
+        Map<String, QuerySnapshot> queries = new LinkedHashMap<>();
+        this.queries.forEach((query, value) -> {
+            QuerySnapshot delta = value.minus(previous.queries.get(query));
+            if (delta.getExecutionCount() > 0) { // 구간 동안 실행된 쿼리만
+                queries.put(query, delta);
+            }
+        });
+        return new HibernateStatisticsSnapshot(previous.to, to, counters, queries);
+    }
+
+    @Getter
+    public static class QuerySnapshot {
+
+        private final long executionCount;
+        private final long executionRowCount;
+        private final long executionTotalTime;
+        private final long executionAvgTime;
+        private final long executionMaxTime;
+        private final long cacheHitCount;
+        private final long cacheMissCount;
+
+        QuerySnapshot(long executionCount, long executionRowCount, long executionTotalTime, long executionMaxTime,
+                      long cacheHitCount, long cacheMissCount) {
+            this.executionCount = executionCount;
+            this.executionRowCount = executionRowCount;
+            this.executionTotalTime = executionTotalTime;
+            this.executionAvgTime = executionCount == 0 ? 0 : executionTotalTime / executionCount;
+            this.executionMaxTime = executionMaxTime;
+            this.cacheHitCount = cacheHitCount;
+            this.cacheMissCount = cacheMissCount;
+        }
+
+        static QuerySnapshot of(QueryStatistics statistics) {
+            // Statistics 는 평균(ms)만 제공하므로 합계는 평균 * 건수로 계산한다.
+            return new QuerySnapshot(statistics.getExecutionCount(), statistics.getExecutionRowCount(),
+                    statistics.getExecutionAvgTime() * statistics.getExecutionCount(), statistics.getExecutionMaxTime(),
+                    statistics.getCacheHitCount(), statistics.getCacheMissCount());
+        }
+
+        QuerySnapshot minus(QuerySnapshot previous) {
+            if (previous == null) {
+                return this;
+            }
+            return new QuerySnapshot(executionCount - previous.executionCount,
+                    executionRowCount - previous.executionRowCount,
+                    Math.max(0, executionTotalTime - previous.executionTotalTime),
+                    executionMaxTime,
+                    cacheHitCount - previous.cacheHitCount,
+                    cacheMissCount - previous.cacheMissCount);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package study.datajpa.monitor;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 개발용 index 점검. repository 가 실행한 select 를 SQL(파라미터 제외)별로 한 번씩 H2 EXPLAIN 으로 실행하고,
+ * where 조건이 있는데 table scan 하는 쿼리를 경고한다. (where 없는 전체 조회, count 는 제외)
+ * 결과는 로그와 fullScans() 로 확인한다.
+ */
+@Slf4j
+public class IndexAdvisor extends SimpleJdbcEventListener {
+
+    // H2 EXPLAIN : FROM PUBLIC.MEMBER M /* PUBLIC.MEMBER.tableScan */
+    private static final Pattern TABLE_SCAN = Pattern.compile("/\\*\\s*([\\w.]+)\\.tableScan\\s*\\*/");
+    private static final Pattern WHERE = Pattern.compile("\\bwhere\\b", Pattern.CASE_INSENSITIVE);
+
+    private final ObjectProvider<DataSource> dataSource; // p6spy 가 DataSource 를 감쌀 때 listener 를 찾으므로 지연 조회
+    private final Map<String, Boolean> explained = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> fullScans = new ConcurrentHashMap<>();
+    private final ThreadLocal<Boolean> explaining = ThreadLocal.withInitial(() -> false);
+
+    public IndexAdvisor(ObjectProvider<DataSource> dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void onAfterExecuteQuery(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        String sql = statementInformation.getSql();
+        if (e != null || explaining.get() || sql == null || !sql.trim().regionMatches(true, 0, "select", 0, 6)
+                || !WHERE.matcher(sql).find() || explained.putIfAbsent(sql, true) != null) {
+            return;
+        }
+        explain(sql, statementInformation.getSqlWithValues());
+    }
+
+    /**
+     * table scan 이 감지된 SQL 과 테이블.
+     */
+    public Map<String, Set<String>> fullScans() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(fullScans));
+    }
+
+    private void explain(String sql, String sqlWithValues) {
+        explaining.set(true);
+        try (Connection connection = dataSource.getObject().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("explain " + sqlWithValues)) {
+            StringBuilder plan = new StringBuilder();
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+
+            Set<String> tables = new LinkedHashSet<>();
+            Matcher matcher = TABLE_SCAN.matcher(plan);
+            while (matcher.find()) {
+                tables.add(matcher.group(1));
+            }
+            if (!tables.isEmpty()) {
+                fullScans.put(sql, tables);
+                log.warn("full table scan on {} : {}\n{}", tables, sql, plan);
+            }
+        } catch (SQLException ex) {
+            log.debug("explain failed : {}", sql, ex);
+        } finally {
+            explaining.remove();
+        }
+    }
+}
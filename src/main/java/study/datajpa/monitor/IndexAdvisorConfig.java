@@ -0,0 +1,21 @@
+package study.datajpa.monitor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datajpa.index-advisor", name = "enabled")
+public class IndexAdvisorConfig {
+
+    @Bean
+    public IndexAdvisor indexAdvisor(ObjectProvider<DataSource> dataSource) {
+        return new IndexAdvisor(dataSource);
+    }
+}
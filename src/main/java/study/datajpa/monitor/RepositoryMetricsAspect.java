@@ -0,0 +1,174 @@
+package study.datajpa.monitor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.BaseStream;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * Spring Data repository 와 직접 만든 @Repository 클래스의 메서드별 metric.
+ *  - repository.invocations : 실행 시간 (exception 태그로 실패 건수)
+ *  - repository.result.size : 결과 건수 (Collection, Page/Slice, Optional, 배열)
+ *  - repository.statements  : 실행한 JDBC statement 수 (statement-budget 이 켜져 있을 때)
+ * 호출마다 meter 를 registry 에서 찾지 않도록 메서드별로 캐시한다.
+ * 비동기(CompletableFuture) 메서드는 호출 스레드에서 제출하는 시간만 측정된다.
+ */
+@Aspect
+public class RepositoryMetricsAspect {
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<MethodKey, MethodMeters> meters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..)) " +
+            "|| (within(study.datajpa.repository..*) && @within(org.springframework.stereotype.Repository))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodMeters methodMeters = meters(joinPoint);
+        long statements = StatementCounter.executed();
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            methodMeters.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            long size = size(result);
+            if (size >= 0) {
+                methodMeters.resultSize.record(size);
+            }
+            return result;
+        } catch (Throwable e) {
+            methodMeters.failure(e).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        } finally {
+            methodMeters.statements.record(StatementCounter.executed() - statements);
+        }
+    }
+
+    private MethodMeters meters(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> targetClass = joinPoint.getTarget().getClass();
+        return meters.computeIfAbsent(new MethodKey(targetClass, method),
+                key -> new MethodMeters(repositoryName(targetClass), method.getName()));
+    }
+
+    // Spring Data 는 JDK proxy 이므로 구현한 repository 인터페이스 이름을 사용한다.
+    private String repositoryName(Class<?> targetClass) {
+        return repositoryNames.computeIfAbsent(targetClass, type -> {
+            for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+                if (Repository.class.isAssignableFrom(candidate) && candidate != Repository.class
+                        && !candidate.getName().startsWith("org.springframework.")) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return ClassUtils.getUserClass(type).getSimpleName();
+        });
+    }
+
+    /**
+     * @return 건수를 알 수 없으면 -1
+     */
+    private static long size(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Slice) {
+            return ((Slice<?>) result).getNumberOfElements();
+        }
+        if (result instanceof Optional) {
+            return ((Optional<?>) result).isPresent() ? 1 : 0;
+        }
+        if (result.getClass().isArray()) {
+            return Array.getLength(result);
+        }
+        if (result instanceof Number || result instanceof Boolean || result instanceof BaseStream
+                || result instanceof Future) {
+            return -1; // count, exists, 수정 건수, 지연 실행 결과
+        }
+        return 1;
+    }
+
+    private static class MethodKey {
+
+        private final Class<?> targetClass;
+        private final Method method;
+
+        MethodKey(Class<?> targetClass, Method method) {
+            this.targetClass = targetClass;
+            this.method = method;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MethodKey)) {
+                return false;
+            }
+            MethodKey that = (MethodKey) o;
+            return targetClass == that.targetClass && method.equals(that.method);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * targetClass.hashCode() + method.hashCode();
+        }
+    }
+
+    private class MethodMeters {
+
+        private final String repository;
+        private final String method;
+        private final Timer success;
+        private final DistributionSummary resultSize;
+        private final DistributionSummary statements;
+        private final Map<Class<?>, Timer> failures = new ConcurrentHashMap<>();
+
+        MethodMeters(String repository, String method) {
+            this.repository = repository;
+            this.method = method;
+            this.success = timer(NONE);
+            this.resultSize = DistributionSummary.builder("repository.result.size")
+                    .tags("repository", repository, "method", method)
+                    .register(meterRegistry);
+            this.statements = DistributionSummary.builder("repository.statements")
+                    .tags("repository", repository, "method", method)
+                    .register(meterRegistry);
+        }
+
+        Timer failure(Throwable e) {
+            return failures.computeIfAbsent(e.getClass(), type -> timer(type.getSimpleName()));
+        }
+
+        private Timer timer(String exception) {
+            return Timer.builder("repository.invocations")
+                    .tags("repository", repository, "method", method, "exception", exception)
+                    .register(meterRegistry);
+        }
+    }
+}
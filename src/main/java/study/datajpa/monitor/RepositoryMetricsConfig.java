@@ -0,0 +1,19 @@
+package study.datajpa.monitor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datajpa.repository-metrics", name = "enabled", matchIfMissing = true)
+public class RepositoryMetricsConfig {
+
+    @Bean
+    public RepositoryMetricsAspect repositoryMetricsAspect(MeterRegistry meterRegistry) {
+        return new RepositoryMetricsAspect(meterRegistry);
+    }
+}
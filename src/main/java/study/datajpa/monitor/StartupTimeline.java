@@ -0,0 +1,65 @@
+package study.datajpa.monitor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 기동 단계별 시점(JVM 시작 기준 ms). StartupTimingListener 가 기록하고 빈(startupTimeline)으로 등록한다.
+ * MeterBinder 로 등록되어 단계마다 application.startup.phase{phase} metric 을 만든다.
+ */
+public class StartupTimeline implements MeterBinder {
+
+    private final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+    private MeterRegistry registry;
+
+    /**
+     * 처음 기록한 시점만 사용한다. (child context 의 refresh 등 같은 이벤트가 반복되는 경우)
+     */
+    public synchronized void mark(String phase) {
+        if (phases.containsKey(phase)) {
+            return;
+        }
+        phases.put(phase, System.currentTimeMillis() - jvmStartMillis);
+        if (registry != null) {
+            register(phase);
+        }
+    }
+
+    public synchronized Long elapsed(String phase) {
+        return phases.get(phase);
+    }
+
+    /**
+     * 단계별 시점과 이전 단계로부터 걸린 시간.
+     */
+    public synchronized String report() {
+        StringBuilder report = new StringBuilder("startup timeline (ms since JVM start)");
+        long previous = 0;
+        for (Map.Entry<String, Long> phase : phases.entrySet()) {
+            report.append(String.format("%n  %-20s %7d (+%d)", phase.getKey(), phase.getValue(), phase.getValue() - previous));
+            previous = phase.getValue();
+        }
+        return report.toString();
+    }
+
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        phases.keySet().forEach(this::register);
+    }
+
+    private void register(String phase) {
+        TimeGauge.builder("application.startup.phase", this, TimeUnit.MILLISECONDS, timeline -> timeline.elapsed(phase))
+                .tag("phase", phase)
+                .register(registry);
+    }
+}
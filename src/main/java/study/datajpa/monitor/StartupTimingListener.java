@@ -0,0 +1,47 @@
+package study.datajpa.monitor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.*;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * SpringApplication 이벤트로 기동 단계별 시간을 기록한다. (META-INF/spring.factories 로 등록)
+ * ready 시점에 로그로 남기고, application.startup.phase{phase} metric 으로 노출한다. (StartupTimeline)
+ * 데이터 초기화(SeedDataRunner)처럼 ready 이후에 끝나는 단계는 timeline 에 나중에 추가된다.
+ */
+@Slf4j
+public class StartupTimingListener implements ApplicationListener<ApplicationEvent> {
+
+    public static final String BEAN_NAME = "startupTimeline";
+
+    private final StartupTimeline timeline = new StartupTimeline();
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (event instanceof ApplicationStartingEvent) {
+            timeline.mark("starting");
+        } else if (event instanceof ApplicationEnvironmentPreparedEvent) {
+            timeline.mark("environmentPrepared");
+        } else if (event instanceof ApplicationContextInitializedEvent) {
+            timeline.mark("contextInitialized");
+        } else if (event instanceof ApplicationPreparedEvent) {
+            timeline.mark("contextLoaded");
+            ConfigurableApplicationContext context = ((ApplicationPreparedEvent) event).getApplicationContext();
+            if (!context.getBeanFactory().containsSingleton(BEAN_NAME)) {
+                context.getBeanFactory().registerSingleton(BEAN_NAME, timeline);
+            }
+        } else if (event instanceof ContextRefreshedEvent) {
+            timeline.mark("refreshed"); // 빈 생성, EntityManagerFactory(백그라운드가 아니면), 웹 서버 시작
+        } else if (event instanceof ApplicationStartedEvent) {
+            timeline.mark("started"); // runner 실행 전
+        } else if (event instanceof ApplicationReadyEvent) {
+            timeline.mark("ready");
+            log.info(timeline.report());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package study.datajpa.monitor;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+public class StatementBudgetExceededException extends RuntimeException {
+
+    public StatementBudgetExceededException(String message) {
+        super(message);
+    }
+}
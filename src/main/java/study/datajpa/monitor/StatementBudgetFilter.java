@@ -0,0 +1,48 @@
+package study.datajpa.monitor;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * HTTP 요청 단위로 statement 수를 세고 endpoint 별 budget 과 비교한다.
+ */
+public class StatementBudgetFilter extends OncePerRequestFilter {
+
+    private final StatementBudgetProperties properties;
+    private final StatementBudgetReporter reporter;
+
+    public StatementBudgetFilter(StatementBudgetProperties properties, StatementBudgetReporter reporter) {
+        this.properties = properties;
+        this.reporter = reporter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementScope scope = StatementCounter.start("request");
+        StatementReport report;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            report = scope.stop();
+        }
+
+        // metric tag 가 늘어나지 않도록 실제 URL 대신 매핑된 패턴(/members/{id})을 사용한다.
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        boolean passed = reporter.report("request", uri, report);
+        if (!passed && properties.isStrict()) {
+            throw new StatementBudgetExceededException(request.getMethod() + " " + request.getRequestURI()
+                    + " : " + report.getTotal() + " statements " + report.getRepeatedSelects(properties.getRepeatThreshold()));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package study.datajpa.monitor;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@Getter @Setter
+@ConfigurationProperties(prefix = "datajpa.statement-budget")
+public class StatementBudgetProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * true 이면 요청의 statement 수가 budget 을 넘거나 N+1 이 감지될 때 StatementBudgetExceededException 을 던진다. (테스트용)
+     */
+    private boolean strict;
+
+    /**
+     * 같은 select 가 이 횟수 이상 실행되면 N+1 로 판단한다.
+     */
+    private int repeatThreshold = 3;
+
+    /**
+     * 요청 URL 패턴(ant pattern) -> 허용 statement 수
+     */
+    private Map<String, Integer> endpoints = new LinkedHashMap<>();
+}
@@ -0,0 +1,69 @@
+package study.datajpa.monitor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Map;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * scope(요청, 트랜잭션) 별 statement 수를 metric 으로 남기고 budget 초과, N+1 을 로그로 알린다.
+ */
+@Slf4j
+public class StatementBudgetReporter {
+
+    private final StatementBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public StatementBudgetReporter(StatementBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @return budget 초과 또는 N+1 이 감지되면 false
+     */
+    public boolean report(String scope, String uri, StatementReport report) {
+        DistributionSummary.builder("jdbc.statements")
+                .tags("scope", scope, "uri", uri)
+                .register(meterRegistry)
+                .record(report.getTotal());
+
+        boolean passed = true;
+
+        Integer budget = findBudget(uri);
+        if (budget != null && report.getTotal() > budget) {
+            passed = false;
+            log.warn("statement budget exceeded. {} {} : {} statements (budget {})", scope, uri, report.getTotal(), budget);
+            counter("jdbc.statements.budget.exceeded", scope, uri).increment();
+        }
+
+        Map<String, Integer> repeated = report.getRepeatedSelects(properties.getRepeatThreshold());
+        if (!repeated.isEmpty()) {
+            passed = false;
+            log.warn("N+1 suspected. {} {} : {}", scope, uri, repeated);
+            counter("jdbc.statements.repeated", scope, uri).increment();
+        }
+        return passed;
+    }
+
+    private Integer findBudget(String uri) {
+        for (Map.Entry<String, Integer> entry : properties.getEndpoints().entrySet()) {
+            if (pathMatcher.match(entry.getKey(), uri)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private Counter counter(String name, String scope, String uri) {
+        return Counter.builder(name)
+                .tags("scope", scope, "uri", uri)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,52 @@
+package study.datajpa.monitor;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * p6spy 가 실행한 모든 statement 를 StatementCounter 와 트랜잭션 단위 scope 에 기록한다.
+ * (p6spy-spring-boot-starter 는 JdbcEventListener 빈을 자동으로 등록한다.)
+ */
+public class StatementCountListener extends SimpleJdbcEventListener {
+
+    private final StatementBudgetReporter reporter;
+
+    public StatementCountListener(StatementBudgetReporter reporter) {
+        this.reporter = reporter;
+    }
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        String sql = statementInformation.getSql();
+        StatementCounter.record(sql);
+        recordTransaction(sql);
+    }
+
+    private void recordTransaction(String sql) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        StatementScope scope = (StatementScope) TransactionSynchronizationManager.getResource(this);
+        if (scope == null) {
+            StatementScope transactionScope = new StatementScope("transaction");
+            TransactionSynchronizationManager.bindResource(this, transactionScope);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(StatementCountListener.this);
+                    String name = TransactionSynchronizationManager.getCurrentTransactionName();
+                    reporter.report("transaction", name != null ? name : "unknown", transactionScope.report());
+                }
+            });
+            scope = transactionScope;
+        }
+        scope.record(sql);
+    }
+}
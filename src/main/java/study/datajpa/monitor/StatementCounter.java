@@ -0,0 +1,92 @@
+package study.datajpa.monitor;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 현재 스레드에서 실행되는 JDBC statement 수를 센다. (StatementCountListener 가 p6spy 에서 호출)
+ * 다른 스레드에서 실행되는 작업은 wrap 으로 감싸서 넘긴 경우에만 시작한 스레드의 scope 에 함께 기록된다.
+ * (countQueryExecutor, repositoryExecutor 는 모든 작업을 감싼다.)
+ *
+ * <pre>
+ * try (StatementScope scope = StatementCounter.start("findMembers")) {
+ *     ...
+ *     scope.report().assertAtMost(2);
+ * }
+ * </pre>
+ */
+public final class StatementCounter {
+
+    // scope 를 시작하지 않은 스레드(커넥션 풀, executor 스레드 등)에는 값을 남기지 않는다.
+    private static final ThreadLocal<Deque<StatementScope>> SCOPES = new ThreadLocal<>();
+    private static final ThreadLocal<long[]> EXECUTED = ThreadLocal.withInitial(() -> new long[1]);
+
+    private StatementCounter() {
+    }
+
+    public static StatementScope start(String name) {
+        StatementScope scope = new StatementScope(name);
+        Deque<StatementScope> scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+        scopes.push(scope);
+        return scope;
+    }
+
+    /**
+     * 지금 열려 있는 scope 를 task 가 실행되는 스레드에서도 사용하도록 감싼다. (TaskDecorator, ThreadPoolExecutor.execute)
+     */
+    public static Runnable wrap(Runnable task) {
+        Deque<StatementScope> scopes = SCOPES.get();
+        if (scopes == null) {
+            return task;
+        }
+        Deque<StatementScope> captured = new ArrayDeque<>(scopes);
+        return () -> {
+            Deque<StatementScope> previous = SCOPES.get();
+            SCOPES.set(new ArrayDeque<>(captured));
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    SCOPES.remove();
+                } else {
+                    SCOPES.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * 현재 스레드에서 지금까지 실행된 statement 수. 두 시점의 차이로 scope 없이 statement 수를 구한다.
+     */
+    public static long executed() {
+        return EXECUTED.get()[0];
+    }
+
+    static void record(String sql) {
+        EXECUTED.get()[0]++;
+        Deque<StatementScope> scopes = SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+        for (StatementScope scope : scopes) { // 중첩된 scope 모두에 기록
+            scope.record(sql);
+        }
+    }
+
+    static void end(StatementScope scope) {
+        Deque<StatementScope> scopes = SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+        scopes.remove(scope);
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        }
+    }
+}
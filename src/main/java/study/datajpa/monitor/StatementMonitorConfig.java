@@ -0,0 +1,37 @@
+package study.datajpa.monitor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@Configuration
+@EnableConfigurationProperties(StatementBudgetProperties.class)
+@ConditionalOnProperty(prefix = "datajpa.statement-budget", name = "enabled", matchIfMissing = true)
+public class StatementMonitorConfig {
+
+    @Bean
+    public StatementBudgetReporter statementBudgetReporter(StatementBudgetProperties properties, MeterRegistry meterRegistry) {
+        return new StatementBudgetReporter(properties, meterRegistry);
+    }
+
+    @Bean
+    public StatementCountListener statementCountListener(StatementBudgetReporter statementBudgetReporter) {
+        return new StatementCountListener(statementBudgetReporter);
+    }
+
+    @Bean
+    public FilterRegistrationBean<StatementBudgetFilter> statementBudgetFilter(StatementBudgetProperties properties,
+                                                                            StatementBudgetReporter statementBudgetReporter) {
+        FilterRegistrationBean<StatementBudgetFilter> registration =
+                new FilterRegistrationBean<>(new StatementBudgetFilter(properties, statementBudgetReporter));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,52 @@
+package study.datajpa.monitor;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@Getter
+public class StatementReport {
+
+    private final String name;
+    private final int total;
+    private final Map<String, Integer> counts;
+
+    StatementReport(String name, int total, Map<String, Integer> counts) {
+        this.name = name;
+        this.total = total;
+        this.counts = counts;
+    }
+
+    /**
+     * 파라미터만 다르고 같은 select 가 threshold 번 이상 실행된 statement. (N+1 의심)
+     */
+    public Map<String, Integer> getRepeatedSelects(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        counts.forEach((sql, count) -> {
+            if (count >= threshold && sql.trim().toLowerCase(Locale.ROOT).startsWith("select")) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+
+    public StatementReport assertAtMost(int budget) {
+        if (total > budget) {
+            throw new StatementBudgetExceededException(name + " : " + total + " statements (budget " + budget + ")");
+        }
+        return this;
+    }
+
+    public StatementReport assertNoRepeatedSelects(int threshold) {
+        Map<String, Integer> repeated = getRepeatedSelects(threshold);
+        if (!repeated.isEmpty()) {
+            throw new StatementBudgetExceededException(name + " : repeated statements " + repeated);
+        }
+        return this;
+    }
+}
@@ -0,0 +1,42 @@
+package study.datajpa.monitor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * StatementCounter.wrap 으로 다른 스레드에서도 기록될 수 있으므로 record, report 는 동기화한다.
+ */
+public class StatementScope implements AutoCloseable {
+
+    private final String name;
+    private final Map<String, Integer> counts = new HashMap<>();
+    private int total;
+
+    StatementScope(String name) {
+        this.name = name;
+    }
+
+    synchronized void record(String sql) {
+        total++;
+        counts.merge(sql, 1, Integer::sum);
+    }
+
+    public synchronized StatementReport report() {
+        return new StatementReport(name, total, new HashMap<>(counts));
+    }
+
+    /**
+     * 스레드에서 scope 를 제거하고 결과를 반환한다.
+     */
+    public StatementReport stop() {
+        StatementCounter.end(this);
+        return report();
+    }
+
+    @Override
+    public void close() {
+        StatementCounter.end(this);
+    }
+}
@@ -0,0 +1,15 @@
+package study.datajpa.repository;
+
+import java.util.List;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+public interface BatchInsertRepository<T> {
+
+    /**
+     * 새 엔티티를 persist 하고 hibernate.jdbc.batch_size 단위로 flush, clear 한다.
+     * 반환되는 엔티티는 준영속 상태이며, 호출한 트랜잭션의 영속성 컨텍스트도 함께 비워진다.
+     */
+    <S extends T> List<S> saveAllBatched(Iterable<S> entities);
+}
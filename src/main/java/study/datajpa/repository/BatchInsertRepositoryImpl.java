@@ -0,0 +1,41 @@
+package study.datajpa.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+public class BatchInsertRepositoryImpl<T> implements BatchInsertRepository<T> {
+
+    private final EntityManager em;
+    private final int batchSize;
+
+    public BatchInsertRepositoryImpl(EntityManager em,
+                                     @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int batchSize) {
+        this.em = em;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public <S extends T> List<S> saveAllBatched(Iterable<S> entities) {
+        List<S> result = new ArrayList<>();
+        for (S entity : entities) {
+            em.persist(entity);
+            result.add(entity);
+
+            if (result.size() % batchSize == 0) {
+                em.flush(); // batch_size 만큼 모아서 insert
+                em.clear(); // 영속성 컨텍스트가 계속 커지지 않도록 비운다.
+            }
+        }
+        em.flush();
+        em.clear();
+        return result;
+    }
+}
@@ -0,0 +1,23 @@
+package study.datajpa.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * chunk 단위 bulk update 의 진행 상황. [fromId, toId) 범위를 commit 할 때마다 전달된다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class BulkUpdateProgress {
+
+    private final int chunk;
+    private final long fromId;
+    private final long toId;
+    private final long maxId;
+    private final int updated;
+    private final long totalUpdated;
+}
@@ -6,5 +6,5 @@ import study.datajpa.entity.Item;
 /**
  * Created by morrie kim on 2020/12/15.
  */
-public interface ItemRepository extends JpaRepository<Item, Long> {
+public interface ItemRepository extends JpaRepository<Item, String>, ItemRepositoryCustom, BatchInsertRepository<Item> {
 }
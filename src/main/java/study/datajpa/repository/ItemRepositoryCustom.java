@@ -0,0 +1,17 @@
+package study.datajpa.repository;
+
+import study.datajpa.entity.Item;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+public interface ItemRepositoryCustom {
+
+    /**
+     * 없는 id 만 insert 한다. batch 단위로 "id in (...)" 한번으로 존재 여부를 확인하므로 건당 select(merge)가 발생하지 않는다.
+     * Item 은 id 외에 갱신할 컬럼이 없으므로 이미 존재하는 id 는 건너뛴다.
+     *
+     * @return insert 된 건수
+     */
+    int upsertAll(Iterable<Item> items);
+}
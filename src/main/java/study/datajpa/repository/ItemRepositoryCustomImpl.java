@@ -0,0 +1,66 @@
+package study.datajpa.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+import study.datajpa.entity.Item;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
+
+    private final EntityManager em;
+    private final int batchSize;
+
+    public ItemRepositoryCustomImpl(EntityManager em,
+                                    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int batchSize) {
+        this.em = em;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public int upsertAll(Iterable<Item> items) {
+        int inserted = 0;
+        List<Item> chunk = new ArrayList<>(batchSize);
+        for (Item item : items) {
+            chunk.add(item);
+            if (chunk.size() == batchSize) {
+                inserted += insertMissing(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            inserted += insertMissing(chunk);
+        }
+        return inserted;
+    }
+
+    private int insertMissing(List<Item> chunk) {
+        List<String> ids = chunk.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+
+        Set<String> existing = new HashSet<>(em.createQuery("select i.id from Item i where i.id in :ids", String.class)
+                .setParameter("ids", ids)
+                .getResultList());
+
+        int inserted = 0;
+        for (Item item : chunk) {
+            if (existing.add(item.getId())) { // 같은 chunk 안의 중복 id 도 한번만 insert
+                em.persist(item);
+                inserted++;
+            }
+        }
+        em.flush();
+        em.clear();
+        return inserted;
+    }
+}
@@ -0,0 +1,116 @@
+package study.datajpa.repository;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+import study.datajpa.config.BulkUpdateProperties;
+import study.datajpa.config.CacheConfig;
+
+import javax.persistence.EntityManager;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * MemberRepository.bulkAgePlus 의 chunk 실행 버전.
+ * 한 번의 update 로 전체 row lock 을 잡지 않고, PK 범위마다 짧은 트랜잭션으로 나누어 commit 한다.
+ *  - 실행 도중 commit 된 chunk 는 되돌리지 않는다. (중간에 실패하면 이미 반영된 건수는 progress 로 확인)
+ *  - 시작 시점의 max(id) 까지만 처리하므로 실행 중에 추가된 회원은 대상이 아니다.
+ */
+@Repository
+public class MemberBulkRepository {
+
+    private final EntityManager em;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate chunkTransaction;
+    private final BulkUpdateProperties properties;
+
+    public MemberBulkRepository(EntityManager em, CacheManager cacheManager,
+                                PlatformTransactionManager transactionManager, BulkUpdateProperties properties) {
+        this.em = em;
+        this.cacheManager = cacheManager;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+    }
+
+    public long bulkAgePlus(int age) {
+        return bulkAgePlus(age, properties.getChunkSize(), progress -> { });
+    }
+
+    public long bulkAgePlus(int age, int chunkSize, Consumer<BulkUpdateProgress> listener) {
+        Assert.isTrue(chunkSize > 0, "chunkSize must be positive");
+        // 바깥 트랜잭션이 있으면 chunk 가 commit 되어도 그 영속성 컨텍스트는 이전 값을 갖고 있게 된다.
+        Assert.state(!TransactionSynchronizationManager.isActualTransactionActive(),
+                "chunked bulk update must run outside of a transaction");
+
+        Object[] range = chunkTransaction.execute(status -> (Object[]) em.createQuery(
+                "select min(m.id), max(m.id) from Member m where m.age >= :age")
+                .setParameter("age", age)
+                .getSingleResult());
+        if (range == null || range[0] == null) {
+            return 0;
+        }
+        long minId = (Long) range[0];
+        long maxId = (Long) range[1];
+
+        long totalUpdated = 0;
+        int chunk = 0;
+        for (long fromId = minId; fromId <= maxId; fromId += chunkSize) {
+            long toId = Math.min(fromId + chunkSize, maxId + 1);
+            int updated = updateChunk(age, fromId, toId);
+            totalUpdated += updated;
+            listener.accept(new BulkUpdateProgress(++chunk, fromId, toId, maxId, updated, totalUpdated));
+
+            if (toId <= maxId && !pause(properties.getPause())) {
+                break;
+            }
+        }
+        return totalUpdated;
+    }
+
+    private int updateChunk(int age, long fromId, long toId) {
+        return chunkTransaction.execute(status -> {
+            int updated = em.createQuery("update Member m set m.age = m.age + 1, m.version = m.version + 1 " +
+                    "where m.id >= :fromId and m.id < :toId and m.age >= :age")
+                    .setParameter("fromId", fromId)
+                    .setParameter("toId", toId)
+                    .setParameter("age", age)
+                    .executeUpdate();
+            em.clear();
+            if (updated > 0) {
+                // transaction aware cache 이므로 chunk 가 commit 된 후에 비워진다.
+                clear(CacheConfig.MEMBER_CACHE);
+                clear(CacheConfig.MEMBER_COUNT_CACHE);
+            }
+            return updated;
+        });
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    // interrupt 되면 남은 chunk 를 처리하지 않는다.
+    private boolean pause(Duration pause) {
+        if (pause.isZero() || pause.isNegative()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
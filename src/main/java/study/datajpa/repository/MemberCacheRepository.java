@@ -0,0 +1,51 @@
+package study.datajpa.repository;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.datajpa.config.InvalidationTrackingCache;
+import study.datajpa.dto.MemberDto;
+
+import java.util.Optional;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * id 조회용 read-through 캐시. 엔티티 대신 MemberDto 를 캐시한다.
+ * 수정, 삭제는 MemberCacheListener, teamName 이 바뀌는 팀 수정, 삭제는 TeamCacheListener, bulk 수정은 bulkAgePlus 의 @CacheEvict 로 무효화된다.
+ *
+ * 오래된 값이 다시 캐시되지 않도록
+ *  - 읽기 전용 트랜잭션(replica)이 아니라 primary 에서 읽고
+ *  - 읽기 시작한 뒤에 무효화(commit 된 수정, 삭제)가 있었으면 저장하지 않는다. (InvalidationTrackingCache)
+ * 바깥 트랜잭션 안에서 호출되면 commit 되지 않은 값일 수 있으므로 캐시에 저장하지 않는다.
+ */
+@Repository
+public class MemberCacheRepository {
+
+    private final MemberRepository memberRepository;
+    private final InvalidationTrackingCache memberCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public MemberCacheRepository(MemberRepository memberRepository, InvalidationTrackingCache memberCache,
+                                 PlatformTransactionManager transactionManager) {
+        this.memberRepository = memberRepository;
+        this.memberCache = memberCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public Optional<MemberDto> findById(Long id) {
+        MemberDto cached = memberCache.get(id, MemberDto.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return memberRepository.findMemberDtoById(id);
+        }
+
+        long epoch = memberCache.epoch();
+        Optional<MemberDto> member = transactionTemplate.execute(status -> memberRepository.findMemberDtoById(id));
+        member.ifPresent(dto -> memberCache.putIfNotInvalidated(id, dto, epoch));
+        return member;
+    }
+}
@@ -1,6 +1,8 @@
 package study.datajpa.repository;
 
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Repository;
+import study.datajpa.config.CacheConfig;
 import study.datajpa.entity.Member;
 
 import javax.persistence.EntityManager;
@@ -73,8 +75,9 @@ public class MemberJpaRepository {
                 .getSingleResult();
     }
 
+    @CacheEvict(cacheNames = {CacheConfig.MEMBER_CACHE, CacheConfig.MEMBER_COUNT_CACHE}, allEntries = true)
     public int bulkAgePlus(int age) {
-        return em.createQuery("update Member m set m.age = m.age + 1 where m.age >= :age")
+        return em.createQuery("update Member m set m.age = m.age + 1, m.version = m.version + 1 where m.age >= :age")
                 .setParameter("age", age)
                 .executeUpdate();
     }
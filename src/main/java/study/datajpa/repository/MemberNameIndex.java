@@ -0,0 +1,290 @@
+package study.datajpa.repository;
+
+import lombok.Value;
+import study.datajpa.dto.MemberNameDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * userName -> member id 자동완성 index. DB 의 like 'x%' 대신 메모리에서 prefix 로 찾는다.
+ *
+ * - base : (userName, id) 순으로 정렬된 배열. 이름은 String 객체 대신 하나의 char[] 에 이어 붙여 저장한다.
+ * - 변경분 : base 이후의 추가, 수정, 삭제. id 별 최신 값(changed)과 정렬된 집합(delta)으로 가지고 있다가
+ *   compactThreshold 를 넘으면 base 를 다시 만든다.
+ *
+ * 조회는 lock 없이 base 의 이진 탐색 위치와 delta 를 병합해서 limit 건만 읽는다. (O(log n + limit))
+ * 변경은 synchronized 로 한 번에 하나씩 반영한다.
+ */
+public class MemberNameIndex {
+
+    private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::getUserName).thenComparingLong(Entry::getId);
+
+    private final int compactThreshold;
+    private volatile State state = new State(Base.EMPTY);
+
+    public MemberNameIndex(int compactThreshold) {
+        this.compactThreshold = compactThreshold;
+    }
+
+    /**
+     * 전체를 다시 읽어 base 를 만든다. 읽는 동안 들어온 변경분은 유지한다. (같은 id 는 변경분이 우선)
+     */
+    public void load(Stream<Entry> entries) {
+        Base base = Base.of(entries.filter(entry -> entry.getUserName() != null).collect(Collectors.toList()));
+        synchronized (this) {
+            State current = state;
+            State loaded = new State(base);
+            loaded.changed.putAll(current.changed);
+            loaded.delta.addAll(current.delta);
+            state = loaded;
+        }
+    }
+
+    public synchronized void put(long id, String userName) {
+        if (userName == null) {
+            remove(id);
+            return;
+        }
+        State current = state;
+        Entry previous = current.changed.get(id);
+        String indexed = previous != null ? previous.getUserName() : current.base.userName(id);
+        if (userName.equals(indexed)) { // 이름이 바뀌지 않은 수정 (age 등)
+            return;
+        }
+        Entry entry = new Entry(userName, id);
+        current.changed.put(id, entry);
+        if (previous != null && previous.getUserName() != null) {
+            current.delta.remove(previous);
+        }
+        current.delta.add(entry);
+        compactIfNeeded();
+    }
+
+    public synchronized void remove(long id) {
+        State current = state;
+        Entry previous = current.changed.get(id);
+        if (previous == null && current.base.userName(id) == null) {
+            return;
+        }
+        current.changed.put(id, new Entry(null, id));
+        if (previous != null && previous.getUserName() != null) {
+            current.delta.remove(previous);
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * userName 이 prefix 로 시작하는 회원을 (userName, id) 순으로 최대 limit 건.
+     */
+    public List<MemberNameDto> complete(String prefix, int limit) {
+        State current = state;
+        Base base = current.base;
+        List<MemberNameDto> result = new ArrayList<>(Math.min(limit, 64));
+
+        int i = base.lowerBound(prefix);
+        Iterator<Entry> delta = current.delta.tailSet(new Entry(prefix, Long.MIN_VALUE)).iterator();
+        Entry nextDelta = nextMatch(delta, prefix);
+        while (result.size() < limit) {
+            i = nextMatch(current, i, prefix);
+            boolean hasBase = i < base.size();
+            if (!hasBase && nextDelta == null) {
+                break;
+            }
+            if (hasBase && (nextDelta == null || base.compareTo(i, nextDelta) < 0)) {
+                result.add(new MemberNameDto(base.ids[i], base.userNameAt(i)));
+                i++;
+            } else {
+                result.add(new MemberNameDto(nextDelta.getId(), nextDelta.getUserName()));
+                nextDelta = nextMatch(delta, prefix);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        State current = state;
+        int size = current.base.size();
+        for (Map.Entry<Long, Entry> changed : current.changed.entrySet()) {
+            boolean inBase = current.base.userName(changed.getKey()) != null;
+            boolean present = changed.getValue().getUserName() != null;
+            size += (present ? 1 : 0) - (inBase ? 1 : 0);
+        }
+        return size;
+    }
+
+    // 변경된 id 의 base 항목은 건너뛴다. prefix 를 벗어나면 size() 를 반환한다.
+    private static int nextMatch(State state, int i, String prefix) {
+        Base base = state.base;
+        for (; i < base.size() && base.startsWith(i, prefix); i++) {
+            if (!state.changed.containsKey(base.ids[i])) {
+                return i;
+            }
+        }
+        return base.size();
+    }
+
+    private static Entry nextMatch(Iterator<Entry> delta, String prefix) {
+        if (delta.hasNext()) {
+            Entry entry = delta.next();
+            return entry.getUserName().startsWith(prefix) ? entry : null;
+        }
+        return null;
+    }
+
+    // base 를 다시 만드는 비용(O(n))이 변경 건수에 나누어지도록 전체의 1/8 보다 작으면 미룬다.
+    private void compactIfNeeded() {
+        State current = state;
+        if (current.changed.size() < Math.max(compactThreshold, current.base.size() / 8)) {
+            return;
+        }
+        List<Entry> entries = new ArrayList<>(current.base.size() + current.delta.size());
+        for (int i = 0; i < current.base.size(); i++) {
+            if (!current.changed.containsKey(current.base.ids[i])) {
+                entries.add(new Entry(current.base.userNameAt(i), current.base.ids[i]));
+            }
+        }
+        entries.addAll(current.delta);
+        state = new State(Base.of(entries));
+    }
+
+    private static final class State {
+
+        final Base base;
+        final Map<Long, Entry> changed = new ConcurrentHashMap<>(); // id -> 최신 값 (userName 이 null 이면 삭제)
+        final ConcurrentSkipListSet<Entry> delta = new ConcurrentSkipListSet<>(ORDER);
+
+        State(Base base) {
+            this.base = base;
+        }
+    }
+
+    /**
+     * 정렬된 불변 배열. i 번째 이름은 chars[offsets[i], offsets[i + 1]).
+     * id 로 찾기 위해 id 순 정렬(sortedIds)과 이름 순 위치(positions)를 함께 가진다.
+     */
+    private static final class Base {
+
+        static final Base EMPTY = new Base(new char[0], new int[1], new long[0], new long[0], new int[0]);
+
+        final char[] chars;
+        final int[] offsets;
+        final long[] ids;
+        final long[] sortedIds;
+        final int[] positions;
+
+        private Base(char[] chars, int[] offsets, long[] ids, long[] sortedIds, int[] positions) {
+            this.chars = chars;
+            this.offsets = offsets;
+            this.ids = ids;
+            this.sortedIds = sortedIds;
+            this.positions = positions;
+        }
+
+        static Base of(List<Entry> entries) {
+            entries.sort(ORDER);
+            int n = entries.size();
+            int[] offsets = new int[n + 1];
+            long[] ids = new long[n];
+            for (int i = 0; i < n; i++) {
+                offsets[i + 1] = offsets[i] + entries.get(i).getUserName().length();
+                ids[i] = entries.get(i).getId();
+            }
+            char[] chars = new char[offsets[n]];
+            for (int i = 0; i < n; i++) {
+                String userName = entries.get(i).getUserName();
+                userName.getChars(0, userName.length(), chars, offsets[i]);
+            }
+
+            Integer[] byId = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                byId[i] = i;
+            }
+            Arrays.sort(byId, Comparator.comparingLong(i -> ids[i]));
+            long[] sortedIds = new long[n];
+            int[] positions = new int[n];
+            for (int i = 0; i < n; i++) {
+                sortedIds[i] = ids[byId[i]];
+                positions[i] = byId[i];
+            }
+            return new Base(chars, offsets, ids, sortedIds, positions);
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        String userNameAt(int i) {
+            return new String(chars, offsets[i], offsets[i + 1] - offsets[i]);
+        }
+
+        String userName(long id) {
+            int found = Arrays.binarySearch(sortedIds, id);
+            return found < 0 ? null : userNameAt(positions[found]);
+        }
+
+        // prefix 보다 크거나 같은 첫 위치
+        int lowerBound(String prefix) {
+            int low = 0;
+            int high = size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compare(mid, prefix) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        boolean startsWith(int i, String prefix) {
+            int start = offsets[i];
+            if (offsets[i + 1] - start < prefix.length()) {
+                return false;
+            }
+            for (int k = 0; k < prefix.length(); k++) {
+                if (chars[start + k] != prefix.charAt(k)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int compareTo(int i, Entry entry) {
+            int result = compare(i, entry.getUserName());
+            return result != 0 ? result : Long.compare(ids[i], entry.getId());
+        }
+
+        // String.compareTo 와 같은 순서
+        private int compare(int i, String userName) {
+            int start = offsets[i];
+            int length = offsets[i + 1] - start;
+            int min = Math.min(length, userName.length());
+            for (int k = 0; k < min; k++) {
+                char c = chars[start + k];
+                char other = userName.charAt(k);
+                if (c != other) {
+                    return c - other;
+                }
+            }
+            return length - userName.length();
+        }
+    }
+
+    @Value
+    public static class Entry {
+        String userName;
+        long id;
+    }
+}
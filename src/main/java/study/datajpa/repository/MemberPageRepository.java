@@ -0,0 +1,57 @@
+package study.datajpa.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+import study.datajpa.dto.MemberDto;
+import study.datajpa.entity.Member;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * MemberRepository 의 Page 조회를 count 캐시 / 비동기 count 로 실행한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberPageRepository {
+
+    private final MemberRepository memberRepository;
+    private final PageQueryExecutor pageQueryExecutor;
+
+    public Page<Member> findAll(Pageable pageable) {
+        return pageQueryExecutor.execute(pageable,
+                () -> memberRepository.findListBy(pageable),
+                "member.count",
+                memberRepository::count);
+    }
+
+    public Page<MemberDto> findMemberDto(Pageable pageable) {
+        return pageQueryExecutor.execute(pageable,
+                () -> memberRepository.findMemberDtoList(pageable),
+                "member.count",
+                memberRepository::count);
+    }
+
+    public Page<Member> findByAge(int age, Pageable pageable) {
+        return pageQueryExecutor.execute(pageable,
+                () -> memberRepository.findListByAge(age, pageable),
+                "member.countByAge:" + age,
+                () -> memberRepository.countByAge(age));
+    }
+
+    // MemberRepository.findV2ByAge 와 같은 쿼리 (age 조건 없음)
+    public Page<Member> findV2ByAge(int age, Pageable pageable) {
+        return pageQueryExecutor.execute(pageable,
+                () -> memberRepository.findListV2(pageable),
+                "member.count",
+                memberRepository::count);
+    }
+
+    public Page<MemberProjection> findByNativeProjection(Pageable pageable) {
+        return pageQueryExecutor.execute(pageable,
+                () -> memberRepository.findListByNativeProjection(pageable),
+                "member.count",
+                memberRepository::count);
+    }
+}
@@ -16,7 +16,7 @@ public class MemberQueryRepository {
 
     private final EntityManager em;
 
-    List<Member> findAllMembers() {
+    public List<Member> findAllMembers() {
         return em.createQuery("select m from Member m")
                 .getResultList();
 
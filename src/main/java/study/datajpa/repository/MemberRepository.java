@@ -1,10 +1,15 @@
 package study.datajpa.repository;
 
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.annotation.Transactional;
+import study.datajpa.config.AsyncConfig;
+import study.datajpa.config.CacheConfig;
 import study.datajpa.dto.MemberDto;
 import study.datajpa.entity.Member;
 
@@ -12,11 +17,14 @@ import javax.persistence.LockModeType;
 import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Created by morrie kim on 2020/08/17.
  */
-public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom, JpaSpecificationExecutor<Member> {
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom, JpaSpecificationExecutor<Member>,
+        BatchInsertRepository<Member> {
 
     List<Member> findByUserNameAndAgeGreaterThan(String userName, int age);
 
@@ -26,6 +34,18 @@ public interface MemberRepository extends JpaRepository<Member, Long>, MemberRep
         // Optional : NamedQuery를 먼저 찾고, 없으면 Method 명으로 Query로 생성해서 호출한다. NamedQuery는 application loading 시점에서 파싱 후 오류를 표시함
     List<Member> findByUserName(@Param("userName") String userName);
 
+    // 비동기 조회 : AsyncConfig.REPOSITORY_EXECUTOR 스레드에서 실행된다.
+    @Async(AsyncConfig.REPOSITORY_EXECUTOR)
+    @Query(name = "Member.findByUserName")
+    CompletableFuture<List<Member>> findAsyncByUserName(@Param("userName") String userName);
+
+    @Async(AsyncConfig.REPOSITORY_EXECUTOR)
+    CompletableFuture<Page<Member>> findAsyncByAge(int age, Pageable pageable);
+
+    @Async(AsyncConfig.REPOSITORY_EXECUTOR)
+    @Query("select new study.datajpa.dto.MemberDto(m.id, m.userName, t.name) from Member m join m.team t")
+    CompletableFuture<List<MemberDto>> findAsyncMemberDto();
+
     @Query("select m from Member m where m.userName = :userName and m.age = :age")
     List<Member> findUser(@Param("userName") String userName, @Param("age") int age);
 
@@ -35,8 +55,41 @@ public interface MemberRepository extends JpaRepository<Member, Long>, MemberRep
     @Query("select new study.datajpa.dto.MemberDto(m.id, m.userName, t.name) from Member m join m.team t")
     List<MemberDto> findMemberDto();
 
-    @Query("select m from Member m where m.userName in :names")
-    List<Member> findByNames(@Param("names") List<String> names);
+    // 엔티티 대신 DTO 로 바로 조회 (영속성 컨텍스트, 스냅샷 없이). MemberPageRepository.findMemberDto 의 content 쿼리
+    @Query("select new study.datajpa.dto.MemberDto(m.id, m.userName, t.name) from Member m left join m.team t")
+    List<MemberDto> findMemberDtoList(Pageable pageable);
+
+    // MemberCacheRepository 용. 영속성 컨텍스트에 이미 올라간 엔티티가 있어도 항상 DB 의 값을 읽는다.
+    @Query("select new study.datajpa.dto.MemberDto(m.id, m.userName, t.name) from Member m left join m.team t where m.id = :id")
+    Optional<MemberDto> findMemberDtoById(@Param("id") Long id);
+
+    // keyset 페이징 : offset, count 없이 (userName, id) 이후의 데이터만 조회한다. 조회 건수는 Pageable 의 size 로 제한
+    // userName 이 null 인 회원은 맨 앞에 온다. (nulls first)
+    @Query("select new study.datajpa.dto.MemberDto(m.id, m.userName, t.name) from Member m left join m.team t " +
+            "order by m.userName asc nulls first, m.id asc")
+    List<MemberDto> findMemberDtoFirstKeyset(Pageable pageable);
+
+    // null 은 앞에 있으므로 userName 이 있는 커서 이후에는 null 인 회원이 없다.
+    @Query("select new study.datajpa.dto.MemberDto(m.id, m.userName, t.name) from Member m left join m.team t " +
+            "where m.userName > :userName or (m.userName = :userName and m.id > :id) " +
+            "order by m.userName asc nulls first, m.id asc")
+    List<MemberDto> findMemberDtoAfterKeyset(@Param("userName") String userName, @Param("id") Long id, Pageable pageable);
+
+    // 커서의 userName 이 null : 남은 null 회원, 그 다음 userName 이 있는 모든 회원
+    @Query("select new study.datajpa.dto.MemberDto(m.id, m.userName, t.name) from Member m left join m.team t " +
+            "where (m.userName is null and m.id > :id) or m.userName is not null " +
+            "order by m.userName asc nulls first, m.id asc")
+    List<MemberDto> findMemberDtoAfterNullKeyset(@Param("id") Long id, Pageable pageable);
+
+    // 전체 export 용. 영속성 컨텍스트에 엔티티를 올리지 않도록 DTO 로 조회하고, fetch size 단위로 JDBC 에서 가져온다.
+    // 반환된 Stream 은 트랜잭션 안에서 사용하고 반드시 close 해야 한다.
+    @QueryHints(value = {
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheable", value = "false")
+    })
+    @Query("select new study.datajpa.dto.MemberDto(m.id, m.userName, t.name) from Member m left join m.team t")
+    Stream<MemberDto> streamMemberDto();
 
     List<Member> findListByUserName(String userName); // collection
 
@@ -50,11 +103,20 @@ public interface MemberRepository extends JpaRepository<Member, Long>, MemberRep
 
     List<Member> findListByAge(int age, Pageable pageable);
 
+    long countByAge(int age);
+
+    List<Member> findListBy(Pageable pageable); // MemberPageRepository 의 content 쿼리
+
+    @Query("select m from Member m left join m.team t")
+    List<Member> findListV2(Pageable pageable);
+
     @Query(value = "select m from Member m left join m.team t", countQuery = "select count(m) from Member m")
     Page<Member> findV2ByAge(int age, Pageable pageable);
 
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.MEMBER_CACHE, CacheConfig.MEMBER_COUNT_CACHE}, allEntries = true)
     @Modifying(clearAutomatically = true)
-    @Query("update Member m set m.age = m.age + 1 where m.age >= :age")
+    @Query("update Member m set m.age = m.age + 1, m.version = m.version + 1 where m.age >= :age") // 낙관적 락 version 도 증가
     int bulkAgePlus(@Param("age") int age);
 
     @Query("select m from Member m left join fetch m.team")
@@ -74,6 +136,7 @@ public interface MemberRepository extends JpaRepository<Member, Long>, MemberRep
     @EntityGraph("Member.all")
     List<Member> findNamedEntityGraphByUserName(@Param("userName") String userName);
 
+    @Transactional(readOnly = true) // routing 사용 시 replica 에서 조회
     @QueryHints(value = @QueryHint(name = "org.hibernate.readOnly", value = "true"))
     Member findReadOnlyByUserName(String userName); // 성능 최적화를 위해 읽기전용인 쿼리에 추
 
@@ -95,4 +158,9 @@ public interface MemberRepository extends JpaRepository<Member, Long>, MemberRep
             countQuery = "select count(*) from Member",
             nativeQuery = true)
     Page<MemberProjection> findByNativeProjection(Pageable pageable);
+
+    @Query(value = "select m.member_id as id, m.user_name as userName, t.name as teamName " +
+            "from member m left join team t on m.team_id = t.team_id",
+            nativeQuery = true)
+    List<MemberProjection> findListByNativeProjection(Pageable pageable);
 }
@@ -9,4 +9,10 @@ import java.util.List;
  */
 public interface MemberRepositoryCustom {
     List<Member> findMemberCustom();
+
+    /**
+     * userName in :names. 목록이 크면 datajpa.in-clause.chunk-size 단위로 나누어 조회하고 결과를 합친다.
+     * team 은 함께 조회한다. 트랜잭션 밖에서 병렬로 조회한 결과는 준영속 엔티티이므로 그 밖의 지연 로딩은 할 수 없다.
+     */
+    List<Member> findByNames(List<String> names);
 }
@@ -1,23 +1,113 @@
 package study.datajpa.repository;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.datajpa.config.AsyncConfig;
+import study.datajpa.config.InClauseProperties;
 import study.datajpa.entity.Member;
 
 import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Created by morrie kim on 2020/12/13.
  */
-
-@RequiredArgsConstructor
 public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
 
     private final EntityManager em;
+    private final InClauseProperties inClauseProperties;
+    private final ExecutorService executor;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public MemberRepositoryCustomImpl(EntityManager em, InClauseProperties inClauseProperties,
+                                      @Qualifier(AsyncConfig.REPOSITORY_EXECUTOR) ExecutorService executor,
+                                      PlatformTransactionManager transactionManager) {
+        this.em = em;
+        this.inClauseProperties = inClauseProperties;
+        this.executor = executor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
     @Override
     public List<Member> findMemberCustom() {
         return em.createQuery("select m from Member m")
                 .getResultList();
     }
+
+    @Override
+    public List<Member> findByNames(List<String> names) {
+        if (names.isEmpty()) { // in () 는 DB 에 따라 문법 오류
+            return List.of();
+        }
+        List<List<String>> chunks = chunk(new ArrayList<>(new LinkedHashSet<>(names)), inClauseProperties.getChunkSize());
+        if (chunks.size() <= 1) {
+            return findByNamesChunk(chunks.get(0));
+        }
+
+        // 트랜잭션 안에서는 같은 영속성 컨텍스트로 조회해야 하므로 순서대로 실행한다.
+        if (!inClauseProperties.isParallel() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            List<Member> result = new ArrayList<>();
+            for (List<String> chunk : chunks) {
+                result.addAll(findByNamesChunk(chunk));
+            }
+            return result;
+        }
+
+        // 각 chunk 는 별도 스레드의 트랜잭션에서 조회하므로 결과는 준영속 엔티티다. team 은 chunk 쿼리에서 함께 가져온다.
+        List<CompletableFuture<List<Member>>> futures = new ArrayList<>();
+        for (List<String> chunk : chunks) {
+            futures.add(submit(chunk));
+        }
+        List<Member> result = new ArrayList<>();
+        for (CompletableFuture<List<Member>> future : futures) {
+            result.addAll(join(future));
+        }
+        return result;
+    }
+
+    // 순서대로 조회할 때와 같은 예외(DataAccessException 등)를 던지도록 CompletionException 을 벗긴다.
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private CompletableFuture<List<Member>> submit(List<String> chunk) {
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> readOnlyTransaction.execute(status -> findByNamesChunk(chunk)), executor);
+        } catch (RejectedExecutionException e) { // executor 가 가득 차면 호출 스레드에서 조회
+            return CompletableFuture.completedFuture(readOnlyTransaction.execute(status -> findByNamesChunk(chunk)));
+        }
+    }
+
+    // in_clause_parameter_padding 으로 파라미터 수가 2의 거듭제곱으로 맞춰지므로 chunk 크기가 달라도 쿼리 플랜이 재사용된다.
+    // 준영속 상태로 반환되는 경우(병렬 조회, 트랜잭션 밖)에도 getTeam() 이 LazyInitializationException 없이 동작하도록 fetch join 한다.
+    private List<Member> findByNamesChunk(List<String> names) {
+        return em.createQuery("select m from Member m left join fetch m.team where m.userName in :names", Member.class)
+                .setParameter("names", names)
+                .getResultList();
+    }
+
+    private static <T> List<List<T>> chunk(List<T> values, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += size) {
+            chunks.add(values.subList(from, Math.min(from + size, values.size())));
+        }
+        return chunks;
+    }
 }
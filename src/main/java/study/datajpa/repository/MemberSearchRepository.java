@@ -0,0 +1,140 @@
+package study.datajpa.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+import study.datajpa.dto.MemberDto;
+import study.datajpa.dto.MemberSearchCondition;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 회원 동적 검색. Criteria(Specification) 대신 조건 조합(shape)별로 만든 JPQL 을 캐시해서
+ * 매번 쿼리를 새로 만들지 않고, Hibernate 쿼리 플랜 캐시도 그대로 재사용한다.
+ *  - team 조건이 있으면 inner join 하나를 조건과 select(teamName) 에 같이 사용한다.
+ *  - count 는 team 조건이 있을 때만 join 한다. (left join 은 건수에 영향이 없다.)
+ *  - count 는 PageQueryExecutor 로 캐시, 비동기 실행한다.
+ */
+@Repository
+public class MemberSearchRepository {
+
+    private static final int USER_NAME = 1;
+    private static final int TEAM_NAME = 1 << 1;
+    private static final int AGE_GOE = 1 << 2;
+    private static final int AGE_LOE = 1 << 3;
+
+    // 정렬 가능한 속성. 그 외의 속성은 JPQL 에 넣지 않는다.
+    private static final Map<String, String> SORT_PATHS = Map.of(
+            "id", "m.id",
+            "userName", "m.userName",
+            "age", "m.age",
+            "teamName", "t.name");
+
+    private final EntityManager em;
+    private final PageQueryExecutor pageQueryExecutor;
+    private final Map<String, String> contentQueries = new ConcurrentHashMap<>();
+    private final Map<Integer, String> countQueries = new ConcurrentHashMap<>();
+
+    public MemberSearchRepository(EntityManager em, PageQueryExecutor pageQueryExecutor) {
+        this.em = em;
+        this.pageQueryExecutor = pageQueryExecutor;
+    }
+
+    public Page<MemberDto> search(MemberSearchCondition condition, Pageable pageable) {
+        int shape = shape(condition);
+        String orderBy = orderBy(pageable.getSort());
+        String contentJpql = contentQueries.computeIfAbsent(shape + orderBy, key ->
+                "select new study.datajpa.dto.MemberDto(m.id, m.userName, t.name) from Member m " +
+                        ((shape & TEAM_NAME) != 0 ? "join" : "left join") + " m.team t" + where(shape) + orderBy);
+        String countJpql = countQueries.computeIfAbsent(shape, key ->
+                "select count(m) from Member m" + ((shape & TEAM_NAME) != 0 ? " join m.team t" : "") + where(shape));
+
+        return pageQueryExecutor.execute(pageable,
+                () -> content(bind(em.createQuery(contentJpql, MemberDto.class), shape, condition), pageable),
+                "member.search:" + condition,
+                () -> bind(em.createQuery(countJpql, Long.class), shape, condition).getSingleResult());
+    }
+
+    private List<MemberDto> content(TypedQuery<MemberDto> query, Pageable pageable) {
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(pageable.getPageSize());
+        }
+        return query.getResultList();
+    }
+
+    private int shape(MemberSearchCondition condition) {
+        int shape = 0;
+        if (StringUtils.hasText(condition.getUserName())) {
+            shape |= USER_NAME;
+        }
+        if (StringUtils.hasText(condition.getTeamName())) {
+            shape |= TEAM_NAME;
+        }
+        if (condition.getAgeGoe() != null) {
+            shape |= AGE_GOE;
+        }
+        if (condition.getAgeLoe() != null) {
+            shape |= AGE_LOE;
+        }
+        return shape;
+    }
+
+    private String where(int shape) {
+        StringBuilder where = new StringBuilder();
+        if ((shape & USER_NAME) != 0) {
+            where.append(" and m.userName like :userName escape '" + MemberSpec.LIKE_ESCAPE + "'");
+        }
+        if ((shape & TEAM_NAME) != 0) {
+            where.append(" and t.name = :teamName");
+        }
+        if ((shape & AGE_GOE) != 0) {
+            where.append(" and m.age >= :ageGoe");
+        }
+        if ((shape & AGE_LOE) != 0) {
+            where.append(" and m.age <= :ageLoe");
+        }
+        return where.length() == 0 ? "" : " where" + where.substring(" and".length());
+    }
+
+    private <T> TypedQuery<T> bind(TypedQuery<T> query, int shape, MemberSearchCondition condition) {
+        if ((shape & USER_NAME) != 0) {
+            query.setParameter("userName", MemberSpec.escapeLike(condition.getUserName()) + "%");
+        }
+        if ((shape & TEAM_NAME) != 0) {
+            query.setParameter("teamName", condition.getTeamName());
+        }
+        if ((shape & AGE_GOE) != 0) {
+            query.setParameter("ageGoe", condition.getAgeGoe());
+        }
+        if ((shape & AGE_LOE) != 0) {
+            query.setParameter("ageLoe", condition.getAgeLoe());
+        }
+        return query;
+    }
+
+    private String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        StringBuilder orderBy = new StringBuilder();
+        for (Sort.Order order : sort) {
+            String path = SORT_PATHS.get(order.getProperty());
+            if (path == null) {
+                throw new IllegalArgumentException("unsupported sort property: " + order.getProperty());
+            }
+            orderBy.append(orderBy.length() == 0 ? " order by " : ", ")
+                    .append(path)
+                    .append(order.isAscending() ? " asc" : " desc");
+        }
+        return orderBy.toString();
+    }
+}
@@ -2,6 +2,7 @@ package study.datajpa.repository;
 
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
+import study.datajpa.dto.MemberSearchCondition;
 import study.datajpa.entity.Member;
 import study.datajpa.entity.Team;
 
@@ -11,6 +12,9 @@ import javax.persistence.criteria.*;
  * Created by morrie kim on 2020/12/18.
  */
 public class MemberSpec {
+
+    static final char LIKE_ESCAPE = '\\';
+
     public static Specification<Member> teamName(final String teamName) {
         return (Specification<Member>) (root, query, builder) -> {
 
@@ -19,7 +23,7 @@ public class MemberSpec {
             }
 
 
-            Join<Member, Team> t = root.join("team", JoinType.INNER); // 회원과 조인
+            Join<Member, Team> t = team(root); // 회원과 조인 (이미 있으면 재사용)
             return builder.equal(t.get("name"), teamName);
 
         };
@@ -29,4 +33,42 @@ public class MemberSpec {
         return (Specification<Member>) (root, query, builder) ->
             builder.equal(root.get("userName"), userName);
     }
+
+    public static Specification<Member> userNameStartsWith(final String prefix) {
+        return (Specification<Member>) (root, query, builder) ->
+                StringUtils.isEmpty(prefix) ? null : builder.like(root.get("userName"), escapeLike(prefix) + "%", LIKE_ESCAPE);
+    }
+
+    public static Specification<Member> ageGoe(final Integer age) {
+        return (Specification<Member>) (root, query, builder) ->
+                age == null ? null : builder.greaterThanOrEqualTo(root.get("age"), age);
+    }
+
+    public static Specification<Member> ageLoe(final Integer age) {
+        return (Specification<Member>) (root, query, builder) ->
+                age == null ? null : builder.lessThanOrEqualTo(root.get("age"), age);
+    }
+
+    public static Specification<Member> search(MemberSearchCondition condition) {
+        return Specification.where(userNameStartsWith(condition.getUserName()))
+                .and(teamName(condition.getTeamName()))
+                .and(ageGoe(condition.getAgeGoe()))
+                .and(ageLoe(condition.getAgeLoe()));
+    }
+
+    // 검색어의 %, _ 를 문자 그대로 비교한다. (MemberSearchRepository 와 같은 escape)
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    // spec 을 여러 개 조합하거나 count 쿼리에 다시 적용해도 team inner join 은 root 당 한 번만 만든다.
+    @SuppressWarnings("unchecked")
+    static Join<Member, Team> team(Root<Member> root) {
+        for (Join<Member, ?> join : root.getJoins()) {
+            if ("team".equals(join.getAttribute().getName()) && join.getJoinType() == JoinType.INNER) {
+                return (Join<Member, Team>) join;
+            }
+        }
+        return root.join("team", JoinType.INNER);
+    }
 }
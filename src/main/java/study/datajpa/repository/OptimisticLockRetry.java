@@ -0,0 +1,64 @@
+package study.datajpa.repository;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+import study.datajpa.config.OptimisticLockRetryProperties;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * findLockByUserName(PESSIMISTIC_WRITE) 대신 @Version 으로 충돌을 감지하고, 충돌하면 새 트랜잭션에서 다시 실행한다.
+ *  - 매 시도마다 새 트랜잭션(영속성 컨텍스트)에서 엔티티를 다시 조회해야 하므로 트랜잭션 밖에서 호출한다.
+ *  - 대기 시간은 시도마다 multiplier 배로 늘어나고(최대 maxBackoff), 동시에 재시도하지 않도록 jitter 를 준다.
+ *  - maxAttempts 를 넘으면 마지막 ObjectOptimisticLockingFailureException 을 그대로 던진다.
+ */
+@Component
+public class OptimisticLockRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final OptimisticLockRetryProperties properties;
+
+    public OptimisticLockRetry(PlatformTransactionManager transactionManager, OptimisticLockRetryProperties properties) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    public <T> T execute(TransactionCallback<T> action) {
+        Assert.state(!TransactionSynchronizationManager.isActualTransactionActive(),
+                "optimistic lock retry must run outside of a transaction");
+
+        long backoffMillis = properties.getInitialBackoff().toMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(action);
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= properties.getMaxAttempts() || !sleep(backoffMillis)) {
+                    throw e;
+                }
+                backoffMillis = Math.min((long) (backoffMillis * properties.getMultiplier()),
+                        properties.getMaxBackoff().toMillis());
+            }
+        }
+    }
+
+    // [backoff / 2, backoff] 범위에서 대기한다. interrupt 되면 재시도하지 않는다.
+    private boolean sleep(long backoffMillis) {
+        if (backoffMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(backoffMillis / 2 + ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
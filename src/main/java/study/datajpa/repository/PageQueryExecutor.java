@@ -0,0 +1,133 @@
+package study.datajpa.repository;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.datajpa.config.CacheConfig;
+import study.datajpa.config.PageCountConfig;
+import study.datajpa.config.PageCountProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * content, count 쿼리를 나누어 실행해서 Page 를 만든다.
+ *  - count 는 쿼리 + 파라미터(countKey)로 짧은 TTL 캐시에 저장하고, 회원 변경 시 무효화된다.
+ *  - 캐시에 없으면 count 를 별도 커넥션(트랜잭션)에서 content 와 동시에 실행한다.
+ *    단, 쓰기 트랜잭션 안에서는 commit 전 변경분이 보여야 하므로 같은 트랜잭션에서 순서대로 실행한다.
+ *  - 요청 스레드는 커넥션을 잡은 채 count 를 기다리므로, 동시 요청이 커넥션 풀을 모두 차지하면 count 가 커넥션을 얻지 못한다.
+ *    timeout 까지 count 가 커넥션을 얻지 못했거나 executor 가 거절하면 요청 스레드에서 직접 count 를 실행한다.
+ */
+@Component
+public class PageQueryExecutor {
+
+    private final CacheManager cacheManager;
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean async;
+    private final Duration timeout;
+
+    public PageQueryExecutor(CacheManager cacheManager,
+                             @Qualifier(PageCountConfig.COUNT_QUERY_EXECUTOR) ThreadPoolTaskExecutor executor,
+                             PlatformTransactionManager transactionManager,
+                             PageCountProperties properties) {
+        this.cacheManager = cacheManager;
+        this.executor = executor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.async = properties.isAsync();
+        this.timeout = properties.getTimeout();
+    }
+
+    public <T> Page<T> execute(Pageable pageable, Supplier<List<T>> contentQuery, String countKey, LongSupplier countQuery) {
+        Cache cache = cacheManager.getCache(CacheConfig.MEMBER_COUNT_CACHE);
+        Long cached = cache != null ? cache.get(countKey, Long.class) : null;
+        if (cached != null) {
+            return PageableExecutionUtils.getPage(contentQuery.get(), pageable, () -> cached);
+        }
+
+        LongSupplier cachingCount = () -> {
+            long total = countQuery.getAsLong();
+            if (cache != null) {
+                cache.put(countKey, total);
+            }
+            return total;
+        };
+
+        if (!async || inWriteTransaction()) {
+            // 첫 페이지에서 content 가 size 보다 적으면 PageableExecutionUtils 가 count 를 생략한다.
+            return PageableExecutionUtils.getPage(contentQuery.get(), pageable, cachingCount);
+        }
+
+        // count 작업과 요청 스레드 중 먼저 가져간 쪽이 count 를 실행한다.
+        AtomicBoolean claimed = new AtomicBoolean();
+        CompletableFuture<Long> total;
+        try {
+            total = CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(
+                    status -> claimed.compareAndSet(false, true) ? cachingCount.getAsLong() : null), executor);
+        } catch (RejectedExecutionException e) {
+            return PageableExecutionUtils.getPage(contentQuery.get(), pageable, cachingCount);
+        }
+        List<T> content = contentQuery.get();
+        return PageableExecutionUtils.getPage(content, pageable, () -> await(total, claimed, cachingCount));
+    }
+
+    private long await(CompletableFuture<Long> total, AtomicBoolean claimed, LongSupplier count) {
+        try {
+            return total.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (claimed.compareAndSet(false, true)) { // 아직 커넥션을 기다리는 중이면 가져와서 실행
+                return count.getAsLong();
+            }
+            return join(total); // 이미 커넥션을 얻어 실행 중
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for the count query", e);
+        } catch (ExecutionException e) {
+            if (claimed.compareAndSet(false, true)) { // 커넥션을 얻기 전에 실패 (connection timeout 등)
+                return count.getAsLong();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private boolean inWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private long join(CompletableFuture<Long> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
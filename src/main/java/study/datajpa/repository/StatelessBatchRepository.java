@@ -0,0 +1,241 @@
+package study.datajpa.repository;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.query.Query;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.auditing.AuditingHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import study.datajpa.config.CacheConfig;
+import study.datajpa.config.StatelessBatchProperties;
+import study.datajpa.entity.Member;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 수백만 건을 다루는 batch job 용. Hibernate StatelessSession 을 사용하므로
+ * 영속성 컨텍스트(1차 캐시), dirty checking 스냅샷이 없어 건수와 관계없이 메모리 사용량이 일정하다.
+ *  - 조회 : forward only scroll, fetch size 단위로 가져온다. 결과는 준영속 엔티티이며 지연 로딩은 할 수 없다. (필요하면 join fetch)
+ *  - 저장, 수정 : chunk 단위로 트랜잭션을 commit 하고, chunk 안에서는 hibernate.jdbc.batch_size 단위 JDBC batch 로 실행한다.
+ *    중간에 실패하면 이미 commit 된 chunk 는 되돌리지 않는다.
+ *  - 엔티티 리스너(auditing, MemberCacheListener, MemberNameIndexListener)와 2차 캐시를 거치지 않으므로 여기서 대신 처리한다.
+ */
+@Repository
+public class StatelessBatchRepository {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectProvider<AuditingHandler> auditingHandler;
+    private final CacheManager cacheManager;
+    private final ObjectProvider<MemberNameIndex> memberNameIndex;
+    private final StatelessBatchProperties properties;
+
+    public StatelessBatchRepository(EntityManagerFactory entityManagerFactory, ObjectProvider<AuditingHandler> auditingHandler,
+                                    CacheManager cacheManager, ObjectProvider<MemberNameIndex> memberNameIndex,
+                                    StatelessBatchProperties properties) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.auditingHandler = auditingHandler;
+        this.cacheManager = cacheManager;
+        this.memberNameIndex = memberNameIndex;
+        this.properties = properties;
+    }
+
+    /**
+     * @param query HQL (select m from Member m where m.age >= :age)
+     * @return 처리한 건수
+     */
+    public <T> long scroll(Class<T> type, String query, Map<String, ?> parameters, Consumer<? super T> action) {
+        assertNoTransaction();
+        try (StatelessSession session = sessionFactory().openStatelessSession()) {
+            Transaction transaction = session.beginTransaction(); // fetch size 가 적용되려면 auto commit 이 아니어야 한다. (PostgreSQL 등)
+            try {
+                long count = scroll(session, type, query, parameters, action);
+                transaction.commit();
+                return count;
+            } catch (RuntimeException e) {
+                rollback(transaction);
+                throw e;
+            }
+        }
+    }
+
+    public <T> long insertAll(Iterable<? extends T> entities) {
+        return write(entities, true);
+    }
+
+    public <T> long updateAll(Iterable<? extends T> entities) {
+        return write(entities, false);
+    }
+
+    /**
+     * query 결과를 scroll 하면서 modifier 가 true 를 반환한(수정된) 엔티티만 chunk 단위로 update 한다.
+     * 조회와 수정은 서로 다른 커넥션을 사용한다.
+     *
+     * @return update 한 건수
+     */
+    public <T> long scrollAndUpdate(Class<T> type, String query, Map<String, ?> parameters, Predicate<? super T> modifier) {
+        assertNoTransaction();
+        try (StatelessSession reader = sessionFactory().openStatelessSession();
+             ChunkWriter writer = new ChunkWriter(false)) {
+            Transaction transaction = reader.beginTransaction();
+            try {
+                scroll(reader, type, query, parameters, entity -> {
+                    if (modifier.test(entity)) {
+                        writer.add(entity);
+                    }
+                });
+                writer.flush();
+                transaction.commit();
+                return writer.written;
+            } catch (RuntimeException e) {
+                rollback(transaction);
+                throw e;
+            }
+        }
+    }
+
+    private <T> long scroll(StatelessSession session, Class<T> type, String query, Map<String, ?> parameters,
+                            Consumer<? super T> action) {
+        Query<T> scrollQuery = session.createQuery(query, type)
+                .setFetchSize(properties.getFetchSize());
+        parameters.forEach((name, value) -> scrollQuery.setParameter(name, value));
+
+        long count = 0;
+        ScrollableResults results = scrollQuery.scroll(ScrollMode.FORWARD_ONLY);
+        try {
+            while (results.next()) {
+                action.accept(type.cast(results.get(0)));
+                count++;
+            }
+        } finally {
+            results.close();
+        }
+        return count;
+    }
+
+    private long write(Iterable<?> entities, boolean insert) {
+        assertNoTransaction();
+        try (ChunkWriter writer = new ChunkWriter(insert)) {
+            for (Object entity : entities) {
+                writer.add(entity);
+            }
+            writer.flush();
+            return writer.written;
+        }
+    }
+
+    // faststart(백그라운드 bootstrap)에서 기동을 막지 않도록 처음 사용할 때 꺼낸다. (EntityManagerFactory 가 만들어질 때까지 대기)
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    // 바깥 트랜잭션이 있어도 StatelessSession 은 별도 커넥션으로 commit 하므로, 바깥 트랜잭션과 섞이지 않도록 막는다.
+    private void assertNoTransaction() {
+        Assert.state(!TransactionSynchronizationManager.isActualTransactionActive(),
+                "stateless batch must run outside of a transaction");
+    }
+
+    private void rollback(Transaction transaction) {
+        if (transaction.getStatus().canRollback()) {
+            transaction.rollback();
+        }
+    }
+
+    /**
+     * chunkSize 건씩 모아서 한 트랜잭션으로 insert/update 한다. 모아 두는 것은 현재 chunk 뿐이다.
+     */
+    private class ChunkWriter implements AutoCloseable {
+
+        private final boolean insert;
+        private final StatelessSession session = sessionFactory().openStatelessSession();
+        private final List<Object> chunk = new ArrayList<>(properties.getChunkSize());
+        private long written;
+
+        ChunkWriter(boolean insert) {
+            this.insert = insert;
+        }
+
+        void add(Object entity) {
+            chunk.add(entity);
+            if (chunk.size() >= properties.getChunkSize()) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            AuditingHandler auditing = auditingHandler.getIfAvailable();
+            Transaction transaction = session.beginTransaction();
+            try {
+                for (Object entity : chunk) {
+                    if (insert) {
+                        if (auditing != null) {
+                            auditing.markCreated(entity);
+                        }
+                        session.insert(entity);
+                    } else {
+                        if (auditing != null) {
+                            auditing.markModified(entity);
+                        }
+                        session.update(entity); // @Version 이 있으면 version 조건으로 update 하고 증가시킨다.
+                    }
+                }
+                transaction.commit(); // 남은 JDBC batch 실행 후 commit
+            } catch (RuntimeException e) {
+                rollback(transaction);
+                throw e;
+            }
+            written += chunk.size();
+            afterCommit(chunk);
+            chunk.clear();
+        }
+
+        @Override
+        public void close() {
+            session.close();
+        }
+    }
+
+    // 엔티티 리스너, 2차 캐시 대신 commit 된 chunk 를 반영한다.
+    private void afterCommit(List<Object> entities) {
+        SessionFactory sessionFactory = sessionFactory();
+        entities.stream().map(Object::getClass).distinct()
+                .forEach(type -> sessionFactory.getCache().evictEntityData(type));
+        sessionFactory.getCache().evictQueryRegions(); // update timestamps 가 갱신되지 않으므로 쿼리 캐시도 비운다.
+
+        List<Member> members = new ArrayList<>();
+        for (Object entity : entities) {
+            if (entity instanceof Member) {
+                members.add((Member) entity);
+            }
+        }
+        if (members.isEmpty()) {
+            return;
+        }
+        clear(CacheConfig.MEMBER_CACHE);
+        clear(CacheConfig.MEMBER_COUNT_CACHE);
+        memberNameIndex.ifAvailable(index -> members.forEach(member -> index.put(member.getId(), member.getUserName())));
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -6,5 +6,5 @@ import study.datajpa.entity.Team;
 /**
  * Created by morrie kim on 2020/12/09.
  */
-public interface TeamRepository extends JpaRepository<Team, Long> {
+public interface TeamRepository extends JpaRepository<Team, Long>, BatchInsertRepository<Team> {
 }
@@ -0,0 +1,64 @@
+package study.datajpa.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import study.datajpa.monitor.StartupTimeline;
+import study.datajpa.repository.MemberRepository;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * application-faststart.yml 과 같은 설정 : EntityManagerFactory 는 applicationTaskExecutor 에서 만들고,
+ * 샘플 데이터는 ready 이후 별도 스레드에서 저장한다.
+ */
+@SpringBootTest(properties = {
+        "spring.data.jpa.repositories.bootstrap-mode=deferred",
+        "datajpa.fast-start.enabled=true",
+        "datajpa.seed.async=true"
+})
+public class FastStartTest {
+
+    @Autowired @Qualifier("&entityManagerFactory") LocalContainerEntityManagerFactoryBean entityManagerFactory;
+    @Autowired @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) AsyncTaskExecutor applicationTaskExecutor;
+    @Autowired StartupTimeline startupTimeline;
+    @Autowired MeterRegistry meterRegistry;
+    @Autowired MemberRepository memberRepository;
+    @Autowired SeedDataProperties seedDataProperties;
+
+    @Test
+    public void bootstrapExecutor() {
+        assertThat(entityManagerFactory.getBootstrapExecutor()).isSameAs(applicationTaskExecutor);
+    }
+
+    @Test
+    public void asyncSeed() throws InterruptedException {
+        //when : seed 스레드가 끝날 때까지 기다린다.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (startupTimeline.elapsed("seeded") == null && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        //then
+        assertThat(startupTimeline.elapsed("seeded")).isNotNull().isGreaterThanOrEqualTo(startupTimeline.elapsed("started"));
+        assertThat(memberRepository.count()).isEqualTo(seedDataProperties.getMembers());
+    }
+
+    @Test
+    public void phaseGauges() {
+        assertThat(startupTimeline.elapsed("ready")).isNotNull();
+        for (String phase : new String[]{"starting", "refreshed", "started", "ready"}) {
+            assertThat(meterRegistry.get("application.startup.phase").tag("phase", phase).timeGauge()
+                    .value(TimeUnit.MILLISECONDS)).isEqualTo(startupTimeline.elapsed(phase).doubleValue());
+        }
+    }
+}
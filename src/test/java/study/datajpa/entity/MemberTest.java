@@ -12,6 +12,8 @@ import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 /**
  * Created by morrie kim on 2020/11/29.
  */
@@ -81,4 +83,18 @@ public class MemberTest {
 
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void auditingPerTransaction() {
+        //given
+        Member member1 = memberRepository.save(new Member("audit1"));
+        Member member2 = memberRepository.save(new Member("audit2"));
+
+        //when
+        em.flush();
+
+        //then : 같은 트랜잭션에서는 auditor, 시간을 한 번만 만든다.
+        assertThat(member1.getCreatedBy()).isNotNull().isEqualTo(member2.getCreatedBy());
+        assertThat(member1.getCreatedDate()).isNotNull().isEqualTo(member2.getCreatedDate());
+    }
+}
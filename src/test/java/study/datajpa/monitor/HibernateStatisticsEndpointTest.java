@@ -0,0 +1,46 @@
+package study.datajpa.monitor;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import study.datajpa.repository.MemberRepository;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@SpringBootTest(properties = {
+        "datajpa.hibernate-stats.enabled=true",
+        "datajpa.hibernate-stats.snapshot-interval=0"
+})
+public class HibernateStatisticsEndpointTest {
+
+    private static final String QUERY = "select m from Member m where m.userName = :userName";
+
+    @Autowired HibernateStatisticsEndpoint endpoint;
+    @Autowired MemberRepository memberRepository;
+
+    @Test
+    public void snapshotDelta() {
+        //given
+        memberRepository.findByUserName("stats");
+        endpoint.snapshot();
+
+        //when
+        memberRepository.findByUserName("stats");
+        memberRepository.findByUserName("stats");
+        HibernateStatisticsSnapshot delta = endpoint.snapshot();
+
+        //then : 구간 동안 실행된 쿼리만 포함된다.
+        assertThat(delta.getQueries()).containsKey(QUERY);
+        assertThat(delta.getQueries().get(QUERY).getExecutionCount()).isEqualTo(2);
+        assertThat(delta.getCounters().get("queryExecution")).isGreaterThanOrEqualTo(2);
+
+        Map<String, Object> statistics = endpoint.statistics();
+        assertThat(statistics.get("statisticsEnabled")).isEqualTo(true);
+        assertThat(statistics.get("history")).asList().first().isSameAs(delta);
+    }
+}
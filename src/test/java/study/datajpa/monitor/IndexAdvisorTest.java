@@ -0,0 +1,49 @@
+package study.datajpa.monitor;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+import study.datajpa.entity.Member;
+import study.datajpa.repository.MemberRepository;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@SpringBootTest(properties = "datajpa.index-advisor.enabled=true")
+@Transactional
+public class IndexAdvisorTest {
+
+    @Autowired IndexAdvisor indexAdvisor;
+    @Autowired MemberRepository memberRepository;
+    @Autowired EntityManager em;
+
+    @Test
+    public void indexedQueries() {
+        //when
+        memberRepository.findByUserName("advisor");
+        memberRepository.findByUserNameAndAgeGreaterThan("advisor", 10);
+        memberRepository.findByAge(10, PageRequest.of(0, 10));
+        memberRepository.findLockByUserName("advisor");
+        memberRepository.findByNativeQuery("advisor");
+
+        //then : table scan 은 fullScan() 의 last_modified_by 조건 쿼리뿐이다.
+        assertThat(indexAdvisor.fullScans().keySet()).allMatch(sql -> sql.contains("last_modified_by"));
+    }
+
+    @Test
+    public void fullScan() {
+        //when : index 없는 컬럼 조건
+        em.createQuery("select m from Member m where m.lastModifiedBy = :lastModifiedBy", Member.class)
+                .setParameter("lastModifiedBy", "advisor")
+                .getResultList();
+
+        //then
+        assertThat(indexAdvisor.fullScans().values()).anyMatch(tables -> tables.contains("PUBLIC.MEMBER"));
+    }
+}
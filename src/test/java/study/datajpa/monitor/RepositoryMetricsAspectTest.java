@@ -0,0 +1,66 @@
+package study.datajpa.monitor;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import study.datajpa.entity.Member;
+import study.datajpa.repository.MemberJpaRepository;
+import study.datajpa.repository.MemberRepository;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@SpringBootTest
+@Transactional
+public class RepositoryMetricsAspectTest {
+
+    @Autowired MemberRepository memberRepository;
+    @Autowired MemberJpaRepository memberJpaRepository;
+    @Autowired MeterRegistry meterRegistry;
+    @Autowired EntityManager em;
+
+    @Test
+    public void springDataRepository() {
+        //given
+        memberRepository.save(new Member("metrics1", 10));
+        memberRepository.save(new Member("metrics1", 20));
+        em.flush();
+        em.clear();
+
+        //when
+        memberRepository.findListByUserName("metrics1");
+
+        //then
+        Timer timer = meterRegistry.get("repository.invocations")
+                .tags("repository", "MemberRepository", "method", "findListByUserName", "exception", "none")
+                .timer();
+        assertThat(timer.count()).isGreaterThanOrEqualTo(1);
+        DistributionSummary resultSize = meterRegistry.get("repository.result.size")
+                .tags("repository", "MemberRepository", "method", "findListByUserName")
+                .summary();
+        assertThat(resultSize.max()).isGreaterThanOrEqualTo(2);
+        DistributionSummary statements = meterRegistry.get("repository.statements")
+                .tags("repository", "MemberRepository", "method", "findListByUserName")
+                .summary();
+        assertThat(statements.max()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    public void handWrittenRepository() {
+        //when
+        memberJpaRepository.findByUserName("metrics2");
+
+        //then
+        assertThat(meterRegistry.get("repository.invocations")
+                .tags("repository", "MemberJpaRepository", "method", "findByUserName")
+                .timer().count()).isGreaterThanOrEqualTo(1);
+    }
+}
@@ -0,0 +1,84 @@
+package study.datajpa.monitor;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import study.datajpa.config.AsyncConfig;
+import study.datajpa.entity.Member;
+import study.datajpa.repository.MemberRepository;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@SpringBootTest
+@Transactional
+public class StatementCounterTest {
+
+    @Autowired MemberRepository memberRepository;
+    @Autowired EntityManager em;
+    @Autowired @Qualifier(AsyncConfig.REPOSITORY_EXECUTOR) ExecutorService repositoryExecutor;
+
+    @Test
+    public void detectRepeatedSelects() {
+        //given
+        List<String> names = Arrays.asList("counter1", "counter2", "counter3");
+        for (String name : names) {
+            memberRepository.save(new Member(name, 10));
+        }
+        em.flush();
+        em.clear();
+
+        //when : 같은 쿼리를 파라미터만 바꿔서 반복 실행
+        StatementReport report;
+        try (StatementScope scope = StatementCounter.start("loop")) {
+            for (String name : names) {
+                memberRepository.findListByUserName(name);
+            }
+            report = scope.report();
+        }
+
+        //then
+        assertThat(report.getTotal()).isEqualTo(3);
+        assertThat(report.getRepeatedSelects(3)).hasSize(1);
+        assertThatThrownBy(() -> report.assertNoRepeatedSelects(3)).isInstanceOf(StatementBudgetExceededException.class);
+    }
+
+    @Test
+    public void budget() {
+        //given
+        memberRepository.save(new Member("counter4", 10));
+        em.flush();
+        em.clear();
+
+        //when
+        StatementReport report;
+        try (StatementScope scope = StatementCounter.start("in")) {
+            memberRepository.findByNames(Arrays.asList("counter4", "counter5"));
+            report = scope.stop();
+        }
+
+        //then
+        report.assertAtMost(1).assertNoRepeatedSelects(2);
+    }
+
+    @Test
+    public void recordStatementsOfExecutorTasks() throws Exception {
+        StatementReport report;
+        try (StatementScope scope = StatementCounter.start("async")) {
+            repositoryExecutor.submit(() -> memberRepository.count()).get();
+            report = scope.stop();
+        }
+
+        assertThat(report.getTotal()).isEqualTo(1);
+    }
+}
@@ -5,6 +5,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import study.datajpa.entity.Item;
 
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 /**
  * Created by morrie kim on 2020/12/15.
  */
@@ -24,4 +29,16 @@ class ItemRepositoryTest {
         Item item = new Item("A");
         itemRepository.save(item);
     }
+
+    @Test
+    public void upsertAll(){
+        String prefix = UUID.randomUUID().toString();
+        itemRepository.saveAllBatched(Arrays.asList(new Item(prefix + "-1"), new Item(prefix + "-2")));
+
+        int inserted = itemRepository.upsertAll(Arrays.asList(
+                new Item(prefix + "-1"), new Item(prefix + "-2"), new Item(prefix + "-3"), new Item(prefix + "-3")));
+
+        assertThat(inserted).isEqualTo(1);
+        assertThat(itemRepository.existsById(prefix + "-3")).isTrue();
+    }
 }
\ No newline at end of file
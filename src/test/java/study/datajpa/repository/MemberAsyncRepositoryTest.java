@@ -0,0 +1,39 @@
+package study.datajpa.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import study.datajpa.entity.Member;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 별도 스레드에서 실행되므로 commit 된 데이터만 보인다. (테스트 트랜잭션 없음)
+ */
+@SpringBootTest
+public class MemberAsyncRepositoryTest {
+
+    @Autowired MemberRepository memberRepository;
+
+    @Test
+    public void findAsync() {
+        //given
+        memberRepository.save(new Member("async1", 555));
+        memberRepository.save(new Member("async2", 555));
+
+        //when
+        CompletableFuture<List<Member>> byUserName = memberRepository.findAsyncByUserName("async1");
+        CompletableFuture<Page<Member>> byAge = memberRepository.findAsyncByAge(555, PageRequest.of(0, 1));
+
+        //then
+        assertThat(byUserName.join()).extracting("userName").containsExactly("async1");
+        assertThat(byAge.join().getTotalElements()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,90 @@
+package study.datajpa.repository;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import study.datajpa.entity.Member;
+import study.datajpa.entity.Team;
+import study.datajpa.monitor.StatementCounter;
+import study.datajpa.monitor.StatementReport;
+import study.datajpa.monitor.StatementScope;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 지연 로딩 쿼리 수가 datajpa.fetch.associations 설정(Team : batch-size 100, Team.members : subselect)을 따르는지 확인한다.
+ * 전역 default_batch_fetch_size 를 16 으로 낮춰서, 연관관계별 설정이 무시되면 쿼리 수가 달라지게 한다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.default_batch_fetch_size=16")
+@Transactional
+public class MemberBatchFetchTest {
+
+    @Autowired EntityManager em;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 60, 250})
+    public void memberTeam(int count) {
+        //given : member 마다 다른 team
+        List<String> names = saveMembers("batchFetchTeam" + count, count);
+
+        //when : findByNames 는 team 을 fetch join 하므로 지연 로딩되도록 직접 조회한다.
+        StatementReport report;
+        try (StatementScope scope = StatementCounter.start("member.team")) {
+            List<Member> members = em.createQuery("select m from Member m where m.userName in :names", Member.class)
+                    .setParameter("names", names)
+                    .getResultList();
+            for (Member member : members) {
+                member.getTeam().getName(); // 프록시 초기화
+            }
+            report = scope.stop();
+        }
+
+        //then : member 조회 1 + team in 절 조회 ceil(count / 100) (전역 16 이었다면 ceil(count / 16))
+        assertThat(report.getTotal()).isEqualTo(1 + (count + 99) / 100);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 60, 250})
+    public void teamMembers(int count) {
+        //given
+        String prefix = "batchFetchMembers" + count;
+        saveMembers(prefix, count);
+
+        //when
+        StatementReport report;
+        try (StatementScope scope = StatementCounter.start("team.members")) {
+            List<Team> teams = em.createQuery("select t from Team t where t.name like :prefix", Team.class)
+                    .setParameter("prefix", prefix + "%")
+                    .getResultList();
+            for (Team team : teams) {
+                assertThat(team.getMembers()).hasSize(1); // 컬렉션 초기화
+            }
+            report = scope.stop();
+        }
+
+        //then : team 조회 1 + members subselect 조회 1 (batch fetch 였다면 team 수에 따라 늘어난다.)
+        assertThat(report.getTotal()).isEqualTo(2);
+    }
+
+    private List<String> saveMembers(String prefix, int count) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Team team = new Team(prefix + "-team" + i);
+            em.persist(team);
+            String name = prefix + "-member" + i;
+            em.persist(new Member(name, 10, team));
+            names.add(name);
+        }
+        em.flush();
+        em.clear();
+        return names;
+    }
+}
@@ -0,0 +1,47 @@
+package study.datajpa.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import study.datajpa.entity.Member;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 초당 insert 건수 비교는 src/jmh 의 MemberBatchInsertBenchmark 에서 측정한다.
+ */
+@SpringBootTest
+@Transactional
+public class MemberBatchInsertTest {
+
+    private static final int ROWS = 250; // batch_size(100) 경계를 넘도록
+
+    @Autowired MemberRepository memberRepository;
+    @Autowired EntityManager em;
+
+    @Test
+    public void saveAllBatched() {
+        //given
+        long beforeCount = memberRepository.count();
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            members.add(new Member("batch" + i, i));
+        }
+
+        //when
+        List<Member> saved = memberRepository.saveAllBatched(members);
+
+        //then : 모두 저장되고, chunk 마다 비워서 영속성 컨텍스트에 남은 엔티티가 없다.
+        assertThat(saved).hasSize(ROWS).allMatch(member -> member.getId() != null);
+        assertThat(saved).extracting(Member::getId).doesNotHaveDuplicates();
+        assertThat(saved).noneMatch(em::contains);
+        assertThat(memberRepository.count()).isEqualTo(beforeCount + ROWS);
+    }
+}
@@ -0,0 +1,57 @@
+package study.datajpa.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.datajpa.entity.Member;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * chunk 마다 commit 하므로 테스트 트랜잭션 없이 실행한다. 다른 테스트 데이터와 겹치지 않도록 큰 나이를 사용한다.
+ */
+@SpringBootTest
+public class MemberBulkRepositoryTest {
+
+    @Autowired MemberBulkRepository memberBulkRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    @Test
+    public void bulkAgePlusChunked() {
+        //given
+        int age = 9000;
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            members.add(memberRepository.save(new Member("bulk" + i, age + i)));
+        }
+        memberRepository.save(new Member("bulkSkip", age - 1));
+
+        //when
+        List<BulkUpdateProgress> progress = new ArrayList<>();
+        long updated = memberBulkRepository.bulkAgePlus(age, 2, progress::add);
+
+        //then
+        assertThat(updated).isEqualTo(5);
+        assertThat(progress.size()).isGreaterThanOrEqualTo(3);
+        assertThat(progress.get(progress.size() - 1).getTotalUpdated()).isEqualTo(5);
+        assertThat(progress).allMatch(p -> p.getUpdated() <= 2);
+        for (int i = 0; i < members.size(); i++) {
+            assertThat(memberRepository.findById(members.get(i).getId()).get().getAge()).isEqualTo(age + i + 1);
+        }
+        assertThat(memberRepository.findByUserName("bulkSkip").get(0).getAge()).isEqualTo(age - 1);
+    }
+
+    @Test
+    public void rejectOuterTransaction() {
+        assertThatThrownBy(() -> transactionTemplate.execute(status -> memberBulkRepository.bulkAgePlus(9000)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,103 @@
+package study.datajpa.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import study.datajpa.config.CacheConfig;
+import study.datajpa.config.InvalidationTrackingCache;
+import study.datajpa.dto.MemberDto;
+import study.datajpa.entity.Member;
+import study.datajpa.entity.Team;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * commit 이후에 캐시가 무효화되므로 테스트 트랜잭션 없이 실행한다.
+ */
+@SpringBootTest
+public class MemberCacheRepositoryTest {
+
+    @Autowired MemberCacheRepository memberCacheRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired TeamRepository teamRepository;
+    @Autowired CacheManager cacheManager;
+    @Autowired InvalidationTrackingCache memberCache;
+
+    @Test
+    public void evictOnUpdate() {
+        //given
+        Member member = memberRepository.save(new Member("cacheMember", 10));
+        Cache cache = cacheManager.getCache(CacheConfig.MEMBER_CACHE);
+
+        //when
+        memberCacheRepository.findById(member.getId());
+        assertThat(cache.get(member.getId())).isNotNull();
+
+        member.setUserName("cacheMember2");
+        memberRepository.save(member);
+
+        //then
+        assertThat(cache.get(member.getId())).isNull();
+        assertThat(memberCacheRepository.findById(member.getId()).get().getUserName()).isEqualTo("cacheMember2");
+    }
+
+    @Test
+    public void evictOnDeleteAndBulkUpdate() {
+        //given
+        Member member1 = memberRepository.save(new Member("cacheMember3", 10));
+        Member member2 = memberRepository.save(new Member("cacheMember4", 10));
+        Cache cache = cacheManager.getCache(CacheConfig.MEMBER_CACHE);
+        memberCacheRepository.findById(member1.getId());
+        memberCacheRepository.findById(member2.getId());
+
+        //when
+        memberRepository.delete(member1);
+        memberRepository.bulkAgePlus(Integer.MAX_VALUE);
+
+        //then
+        assertThat(cache.get(member1.getId())).isNull();
+        assertThat(cache.get(member2.getId())).isNull();
+        assertThat(memberCacheRepository.findById(member1.getId())).isEmpty();
+    }
+
+    @Test
+    public void evictOnTeamRename() {
+        //given
+        Team team = teamRepository.save(new Team("cacheTeam"));
+        Member member = memberRepository.save(new Member("cacheMember7", 10, team));
+        assertThat(memberCacheRepository.findById(member.getId()).get().getTeamName()).isEqualTo("cacheTeam");
+
+        //when
+        team.setName("cacheTeam2");
+        teamRepository.save(team);
+
+        //then
+        assertThat(memberCache.get(member.getId())).isNull();
+        assertThat(memberCacheRepository.findById(member.getId()).get().getTeamName()).isEqualTo("cacheTeam2");
+    }
+
+    @Test
+    public void staleReadIsNotCachedAfterUpdate() {
+        //given
+        Member member = memberRepository.save(new Member("cacheMember5", 10));
+
+        //when : 조회가 수정 전 값을 읽고, 캐시에 넣기 전에 수정이 commit 된다.
+        long epoch = memberCache.epoch();
+        MemberDto stale = memberRepository.findMemberDtoById(member.getId()).get();
+
+        member.setUserName("cacheMember6");
+        memberRepository.save(member); // commit 후 MemberCacheListener 가 evict
+
+        boolean cached = memberCache.putIfNotInvalidated(member.getId(), stale, epoch);
+
+        //then
+        assertThat(cached).isFalse();
+        assertThat(memberCache.get(member.getId())).isNull();
+        assertThat(memberCacheRepository.findById(member.getId()).get().getUserName()).isEqualTo("cacheMember6");
+        assertThat(memberCache.get(member.getId(), MemberDto.class).getUserName()).isEqualTo("cacheMember6");
+    }
+}
@@ -0,0 +1,88 @@
+package study.datajpa.repository;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import study.datajpa.config.InClauseProperties;
+import study.datajpa.entity.Member;
+import study.datajpa.monitor.StatementCounter;
+import study.datajpa.monitor.StatementReport;
+import study.datajpa.monitor.StatementScope;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@SpringBootTest(properties = {"datajpa.in-clause.chunk-size=4", "datajpa.hibernate-stats.enabled=true"})
+@Transactional
+public class MemberFindByNamesTest {
+
+    @Autowired MemberRepository memberRepository;
+    @Autowired EntityManager em;
+
+    @Test
+    public void chunked() {
+        //given
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            names.add("names" + i);
+            memberRepository.save(new Member("names" + i, 10));
+        }
+        names.add("names0"); // 중복은 한 번만 조회
+        em.flush();
+        em.clear();
+
+        //when
+        List<Member> result;
+        StatementReport report;
+        try (StatementScope scope = StatementCounter.start("findByNames")) {
+            result = memberRepository.findByNames(names);
+            report = scope.stop();
+        }
+
+        //then : 4 + 4 + 2
+        assertThat(report.getTotal()).isEqualTo(3);
+        assertThat(result).extracting("userName").containsExactlyInAnyOrderElementsOf(names.subList(0, 10));
+    }
+
+    @Test
+    public void emptyNames() {
+        StatementReport report;
+        try (StatementScope scope = StatementCounter.start("findByNames")) {
+            assertThat(memberRepository.findByNames(List.of())).isEmpty();
+            report = scope.stop();
+        }
+        assertThat(report.getTotal()).isZero();
+    }
+
+    @Test
+    public void rejectNonPositiveChunkSize() { // 0 이면 chunk 를 나누는 반복이 끝나지 않는다.
+        assertThatThrownBy(() -> new InClauseProperties().setChunkSize(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void parameterPadding() {
+        //given
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        memberRepository.findByNames(Arrays.asList("padding1", "padding2", "padding3"));
+        long hits = statistics.getQueryPlanCacheHitCount();
+        long misses = statistics.getQueryPlanCacheMissCount();
+
+        //when : 파라미터 수가 달라도 4개로 채워지므로 같은 쿼리 플랜을 사용한다.
+        memberRepository.findByNames(Arrays.asList("padding1", "padding2", "padding3", "padding4"));
+
+        //then
+        assertThat(statistics.getQueryPlanCacheHitCount()).isGreaterThan(hits);
+        assertThat(statistics.getQueryPlanCacheMissCount()).isEqualTo(misses);
+    }
+}
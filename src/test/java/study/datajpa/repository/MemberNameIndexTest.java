@@ -0,0 +1,74 @@
+package study.datajpa.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.datajpa.dto.MemberNameDto;
+import study.datajpa.entity.Member;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * commit 이후에 반영되므로 테스트 트랜잭션 없이 실행한다.
+ */
+@SpringBootTest
+public class MemberNameIndexTest {
+
+    @Autowired MemberNameIndex memberNameIndex;
+    @Autowired MemberRepository memberRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    public void loadedAtStartup() { // SeedDataRunner 의 user0 ~ user99
+        assertThat(memberNameIndex.complete("user1", 3)).hasSize(3)
+                .allMatch(member -> member.getUserName().startsWith("user1"));
+    }
+
+    @Test
+    public void followsCommittedChanges() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        //persist
+        Long id = transactionTemplate.execute(status -> memberRepository.save(new Member("autocompleteA", 10)).getId());
+        assertThat(memberNameIndex.complete("autocomplete", 10)).containsExactly(new MemberNameDto(id, "autocompleteA"));
+
+        //update
+        transactionTemplate.executeWithoutResult(status -> memberRepository.findById(id).get().setUserName("autocompleteB"));
+        assertThat(memberNameIndex.complete("autocomplete", 10)).containsExactly(new MemberNameDto(id, "autocompleteB"));
+
+        //rollback 된 변경은 반영하지 않는다.
+        transactionTemplate.executeWithoutResult(status -> {
+            memberRepository.findById(id).get().setUserName("autocompleteC");
+            memberRepository.flush();
+            status.setRollbackOnly();
+        });
+        assertThat(memberNameIndex.complete("autocomplete", 10)).containsExactly(new MemberNameDto(id, "autocompleteB"));
+
+        //remove
+        transactionTemplate.executeWithoutResult(status -> memberRepository.deleteById(id));
+        assertThat(memberNameIndex.complete("autocomplete", 10)).isEmpty();
+    }
+
+    @Test
+    public void mergeAndCompact() {
+        MemberNameIndex index = new MemberNameIndex(3);
+        index.load(Stream.of(new MemberNameIndex.Entry("kim", 1), new MemberNameIndex.Entry("kang", 2),
+                new MemberNameIndex.Entry("lee", 3), new MemberNameIndex.Entry("kim", 4)));
+
+        index.put(5, "ko");
+        index.put(2, "park");
+        assertThat(index.complete("k", 10)).extracting(MemberNameDto::getId).containsExactly(1L, 4L, 5L);
+        assertThat(index.complete("", 2)).extracting(MemberNameDto::getId).containsExactly(1L, 4L);
+
+        index.remove(1); // 변경분 3건 -> base 를 다시 만든다.
+        assertThat(index.complete("k", 10)).extracting(MemberNameDto::getId).containsExactly(4L, 5L);
+        assertThat(index.complete("p", 10)).extracting(MemberNameDto::getId).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+}
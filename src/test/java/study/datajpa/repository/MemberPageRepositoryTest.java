@@ -0,0 +1,76 @@
+package study.datajpa.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import study.datajpa.config.CacheConfig;
+import study.datajpa.entity.Member;
+import study.datajpa.entity.Team;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 비동기 count 는 commit 된 데이터만 보이므로 테스트 트랜잭션 없이 실행한다.
+ */
+@SpringBootTest
+public class MemberPageRepositoryTest {
+
+    @Autowired MemberPageRepository memberPageRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired TeamRepository teamRepository;
+    @Autowired CacheManager cacheManager;
+
+    @Test
+    public void cachedCount() {
+        //given
+        int age = 777;
+        memberRepository.save(new Member("page1", age));
+        memberRepository.save(new Member("page2", age));
+        memberRepository.save(new Member("page3", age));
+        Cache cache = cacheManager.getCache(CacheConfig.MEMBER_COUNT_CACHE);
+
+        //when
+        Page<Member> page = memberPageRepository.findByAge(age, PageRequest.of(0, 2));
+
+        //then
+        assertThat(page.getContent().size()).isEqualTo(2);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(cache.get("member.countByAge:" + age, Long.class)).isEqualTo(3);
+
+        //when : 회원이 추가되면 count 캐시가 비워진다.
+        memberRepository.save(new Member("page4", age));
+
+        //then
+        assertThat(cache.get("member.countByAge:" + age)).isNull();
+        assertThat(memberPageRepository.findByAge(age, PageRequest.of(0, 2)).getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    public void nativeProjectionPageJoinsOwnTeam() {
+        //given : 팀이 여러 개여도 회원당 한 건이어야 한다.
+        Team teamA = teamRepository.save(new Team("nativeTeamA"));
+        Team teamB = teamRepository.save(new Team("nativeTeamB"));
+        Member member = memberRepository.save(new Member("nativeMember", 10, teamA));
+
+        try {
+            //when
+            Page<MemberProjection> page = memberPageRepository.findByNativeProjection(PageRequest.of(0, 1000));
+
+            //then
+            assertThat(page.getContent()).hasSize((int) page.getTotalElements());
+            assertThat(page.getContent()).extracting(MemberProjection::getId).doesNotHaveDuplicates();
+            assertThat(page.getContent()).filteredOn(p -> p.getId().equals(member.getId()))
+                    .extracting(MemberProjection::getTeamName).containsExactly("nativeTeamA");
+        } finally {
+            memberRepository.delete(member);
+            teamRepository.delete(teamA);
+            teamRepository.delete(teamB);
+        }
+    }
+}
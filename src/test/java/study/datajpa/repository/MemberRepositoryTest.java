@@ -1,5 +1,6 @@
 package study.datajpa.repository;
 
+import org.hibernate.Session;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -7,6 +8,8 @@ import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.transaction.annotation.Transactional;
+import study.datajpa.dto.MemberCursor;
+import study.datajpa.dto.MemberCursorPage;
 import study.datajpa.dto.MemberDto;
 import study.datajpa.entity.Member;
 import study.datajpa.entity.Team;
@@ -15,6 +18,8 @@ import javax.persistence.EntityManager;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -27,6 +32,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 public class MemberRepositoryTest {
     @Autowired MemberRepository memberRepository;
     @Autowired TeamRepository teamRepository;
+    @Autowired MemberPageRepository memberPageRepository;
     @Autowired MemberQueryRepository memberQueryRepository;
 
     @Autowired EntityManager em;
@@ -148,6 +154,28 @@ public class MemberRepositoryTest {
         }
     }
 
+    @Test
+    public void streamMemberDto() {
+        //given
+        Team team = new Team("streamTeam");
+        teamRepository.save(team);
+        memberRepository.save(new Member("stream1", 10, team));
+        memberRepository.save(new Member("stream2", 20));
+
+        em.flush();
+        em.clear();
+
+        //when
+        List<MemberDto> result;
+        try (Stream<MemberDto> stream = memberRepository.streamMemberDto()) {
+            result = stream.filter(dto -> dto.getUserName() != null && dto.getUserName().startsWith("stream"))
+                    .collect(Collectors.toList());
+        }
+
+        //then
+        assertThat(result).extracting("teamName").containsExactlyInAnyOrder("streamTeam", null);
+    }
+
     @Test
     public void findByNames() {
         Member member1 = new Member("member1", 10);
@@ -303,6 +331,67 @@ public class MemberRepositoryTest {
 
     }
 
+    @Test
+    public void findMemberDtoPage() { // GET /members
+        //given : 다른 데이터보다 앞에 정렬되는 이름
+        Team team = new Team("dtoTeam");
+        teamRepository.save(team);
+        Member member1 = memberRepository.save(new Member("0dto1", 10, team));
+        Member member2 = memberRepository.save(new Member("0dto2", 10)); // 팀 없음 (left join)
+
+        em.flush();
+        em.clear();
+
+        //when
+        Page<MemberDto> page = memberPageRepository.findMemberDto(PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "userName")));
+
+        //then
+        assertThat(page.getContent()).containsExactly(
+                new MemberDto(member1.getId(), "0dto1", "dtoTeam"),
+                new MemberDto(member2.getId(), "0dto2", null));
+        assertThat(em.unwrap(Session.class).getStatistics().getEntityCount()).isEqualTo(0); // 영속성 컨텍스트에 올라간 엔티티 없음
+    }
+
+    @Test
+    public void keysetPaging() {
+        //given
+        memberRepository.save(new Member("keyset1", 10));
+        memberRepository.save(new Member("keyset2", 10));
+        memberRepository.save(new Member("keyset3", 10));
+
+        //when
+        MemberCursor start = new MemberCursor("keyset", 0L);
+        List<MemberDto> rows = memberRepository.findMemberDtoAfterKeyset(start.getUserName(), start.getId(), PageRequest.of(0, 3));
+        MemberCursorPage page = MemberCursorPage.of(rows, 2);
+
+        MemberCursor next = MemberCursor.decode(page.getNextCursor());
+        List<MemberDto> nextRows = memberRepository.findMemberDtoAfterKeyset(next.getUserName(), next.getId(), PageRequest.of(0, 3));
+
+        //then
+        assertThat(page.getContent()).extracting("userName").containsExactly("keyset1", "keyset2");
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(nextRows.get(0).getUserName()).isEqualTo("keyset3");
+    }
+
+    @Test
+    public void keysetPagingNullUserName() {
+        //given : userName 이 null 인 회원은 맨 앞에 정렬된다.
+        Long first = memberRepository.save(new Member(null, 10)).getId();
+        Long second = memberRepository.save(new Member(null, 10)).getId();
+
+        //when
+        MemberCursor cursor = MemberCursor.decode(new MemberCursor(null, first).encode());
+        List<MemberDto> rows = memberRepository.findMemberDtoAfterNullKeyset(cursor.getId(), PageRequest.of(0, 1));
+        List<MemberDto> afterNulls = memberRepository.findMemberDtoAfterNullKeyset(second, PageRequest.of(0, 1));
+
+        //then
+        assertThat(cursor.getUserName()).isNull();
+        assertThat(MemberCursor.decode(new MemberCursor("null", first).encode()).getUserName()).isEqualTo("null");
+        assertThat(rows).extracting(MemberDto::getId).containsExactly(second);
+        assertThat(afterNulls).hasSize(1);
+        assertThat(afterNulls.get(0).getUserName()).isNotNull();
+    }
+
     @Test
     public void bulkUpdate() {
         //given
@@ -0,0 +1,116 @@
+package study.datajpa.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+import study.datajpa.dto.MemberDto;
+import study.datajpa.dto.MemberSearchCondition;
+import study.datajpa.entity.Member;
+import study.datajpa.entity.Team;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@SpringBootTest
+@Transactional
+public class MemberSearchRepositoryTest {
+
+    @Autowired MemberSearchRepository memberSearchRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired EntityManager em;
+
+    @BeforeEach
+    public void setUp() {
+        Team teamA = new Team("searchTeamA");
+        Team teamB = new Team("searchTeamB");
+        em.persist(teamA);
+        em.persist(teamB);
+        em.persist(new Member("search1", 10, teamA));
+        em.persist(new Member("search2", 20, teamA));
+        em.persist(new Member("search3", 30, teamB));
+        em.persist(new Member("search4", 40, null));
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void searchWithoutTeam() {
+        //given
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setUserName("search");
+        condition.setAgeGoe(15);
+
+        //when
+        Page<MemberDto> page = memberSearchRepository.search(condition,
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "age")));
+
+        //then : team 이 없는 회원도 포함된다.
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting("userName").containsExactly("search4", "search3");
+        assertThat(page.getContent()).extracting("teamName").containsExactly(null, "searchTeamB");
+    }
+
+    @Test
+    public void searchWithTeam() {
+        //given
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamName("searchTeamA");
+        condition.setAgeLoe(15);
+
+        //when
+        Page<MemberDto> page = memberSearchRepository.search(condition, PageRequest.of(0, 10));
+
+        //then
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.getContent()).extracting("userName").containsExactly("search1");
+    }
+
+    @Test
+    public void specReusesTeamJoin() {
+        //given
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setTeamName("searchTeamA");
+        Specification<Member> spec = MemberSpec.search(condition).and(MemberSpec.teamName("searchTeamA"));
+
+        //when
+        CriteriaBuilder builder = em.getCriteriaBuilder();
+        CriteriaQuery<Member> query = builder.createQuery(Member.class);
+        Root<Member> root = query.from(Member.class);
+        query.where(spec.toPredicate(root, query, builder));
+
+        //then
+        assertThat(root.getJoins()).hasSize(1);
+        assertThat(memberRepository.findAll(spec)).hasSize(2);
+    }
+
+    @Test
+    public void escapeLikeInSearchAndSpec() {
+        //given
+        em.persist(new Member("search_like", 50, null));
+        em.persist(new Member("searchXlike", 50, null));
+        MemberSearchCondition condition = new MemberSearchCondition();
+        condition.setUserName("search_");
+
+        //when
+        Page<MemberDto> page = memberSearchRepository.search(condition, PageRequest.of(0, 10));
+        List<Member> members = memberRepository.findAll(MemberSpec.search(condition));
+
+        //then : _ 는 임의의 한 문자가 아니라 문자 그대로 비교한다.
+        assertThat(page.getContent()).extracting("userName").containsExactly("search_like");
+        assertThat(members).extracting("userName").containsExactly("search_like");
+    }
+}
@@ -0,0 +1,81 @@
+package study.datajpa.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.datajpa.config.OptimisticLockRetryProperties;
+import study.datajpa.entity.Member;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 시도마다 commit 하므로 테스트 트랜잭션 없이 실행한다.
+ */
+@SpringBootTest
+public class OptimisticLockRetryTest {
+
+    @Autowired OptimisticLockRetry optimisticLockRetry;
+    @Autowired OptimisticLockRetryProperties properties;
+    @Autowired MemberRepository memberRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    public void retryOnConflict() {
+        //given
+        Long id = memberRepository.save(new Member("optimistic1", 10)).getId();
+        AtomicInteger attempts = new AtomicInteger();
+
+        //when : 첫 시도 중에 다른 트랜잭션이 먼저 수정한다.
+        Member result = optimisticLockRetry.execute(status -> {
+            Member member = memberRepository.findById(id).get();
+            if (attempts.incrementAndGet() == 1) {
+                concurrentAgePlus(id);
+            }
+            member.setAge(member.getAge() + 1);
+            return member;
+        });
+
+        //then
+        assertThat(attempts.get()).isEqualTo(2);
+        Member findMember = memberRepository.findById(id).get();
+        assertThat(findMember.getAge()).isEqualTo(12);
+        assertThat(findMember.getVersion()).isEqualTo(result.getVersion());
+    }
+
+    @Test
+    public void maxAttempts() {
+        //given
+        Long id = memberRepository.save(new Member("optimistic2", 10)).getId();
+        AtomicInteger attempts = new AtomicInteger();
+
+        //when : 매번 충돌
+        assertThatThrownBy(() -> optimisticLockRetry.execute(status -> {
+            Member member = memberRepository.findById(id).get();
+            attempts.incrementAndGet();
+            concurrentAgePlus(id);
+            member.setAge(member.getAge() + 1);
+            return member;
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        //then
+        assertThat(attempts.get()).isEqualTo(properties.getMaxAttempts());
+    }
+
+    private void concurrentAgePlus(Long id) {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        requiresNew.executeWithoutResult(status -> {
+            Member member = memberRepository.findById(id).get();
+            member.setAge(member.getAge() + 1);
+        });
+    }
+}
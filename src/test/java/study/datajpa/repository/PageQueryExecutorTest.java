@@ -0,0 +1,68 @@
+package study.datajpa.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.datajpa.dto.MemberDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * 커넥션 풀(3개)보다 많은 요청이 동시에 커넥션을 잡은 채 비동기 count 를 기다려도 교착되지 않아야 한다.
+ * count 캐시를 끄고(expireAfterWrite=0s) 모든 요청이 count 를 실행하게 한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=3",
+        "spring.datasource.hikari.connection-timeout=5000",
+        "datajpa.page-count.pool-size=1",
+        "datajpa.async.pool-size=1",
+        "datajpa.page-count.timeout=100ms",
+        "datajpa.cache.specs[memberCount]=maximumSize=1000,expireAfterWrite=0s"
+})
+public class PageQueryExecutorTest {
+
+    @Autowired MemberPageRepository memberPageRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    public void moreConcurrentRequestsThanConnections() throws Exception {
+        //given : OSIV 처럼 요청 스레드가 커넥션을 잡고 있도록 읽기 전용 트랜잭션 안에서 조회한다.
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        long count = memberRepository.count(); // SeedDataRunner 의 회원
+        int requests = 8;
+
+        //when
+        ExecutorService requestThreads = Executors.newFixedThreadPool(requests);
+        List<Future<Page<MemberDto>>> pages = new ArrayList<>();
+        try {
+            for (int i = 0; i < requests; i++) {
+                Callable<Page<MemberDto>> request =
+                        () -> readOnly.execute(status -> memberPageRepository.findMemberDto(PageRequest.of(1, 5)));
+                pages.add(requestThreads.submit(request));
+            }
+
+            //then : connection-timeout(5s) 전에 모두 count 까지 조회한다.
+            for (Future<Page<MemberDto>> page : pages) {
+                assertThat(page.get(4, TimeUnit.SECONDS).getTotalElements()).isEqualTo(count);
+            }
+        } finally {
+            requestThreads.shutdownNow();
+        }
+    }
+}
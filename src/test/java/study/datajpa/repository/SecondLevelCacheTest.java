@@ -0,0 +1,56 @@
+package study.datajpa.repository;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import study.datajpa.entity.Member;
+import study.datajpa.entity.Team;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ */
+@SpringBootTest(properties = "datajpa.hibernate-cache.enabled=true")
+public class SecondLevelCacheTest {
+
+    @Autowired TeamRepository teamRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired EntityManagerFactory emf;
+
+    @Test
+    public void teamRegion() {
+        //given
+        Team team = teamRepository.save(new Team("cacheTeam"));
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when : 트랜잭션(영속성 컨텍스트)이 다른 두번의 조회
+        teamRepository.findById(team.getId());
+        teamRepository.findById(team.getId());
+
+        //then
+        assertThat(statistics.getDomainDataRegionStatistics("team").getHitCount()).isGreaterThanOrEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void findByUserNameQueryCache() {
+        //given
+        memberRepository.save(new Member("queryCacheMember", 10));
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        memberRepository.findByUserName("queryCacheMember");
+        memberRepository.findByUserName("queryCacheMember");
+
+        //then
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,103 @@
+package study.datajpa.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionTemplate;
+import study.datajpa.entity.Item;
+import study.datajpa.entity.Member;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Created by morrie kim on 2026/10/18.
+ *
+ * StatelessSession 은 바깥 트랜잭션 안에서 실행할 수 없으므로 테스트 트랜잭션 없이 실행한다.
+ * chunk-size=2 로 여러 chunk(commit)에 걸치게 하고, 넣은 데이터(나이 9100, 9101 회원, stateless-item-*)는 테스트마다 지운다.
+ */
+@SpringBootTest(properties = "datajpa.stateless-batch.chunk-size=2")
+public class StatelessBatchRepositoryTest {
+
+    @Autowired StatelessBatchRepository statelessBatchRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired ItemRepository itemRepository;
+    @Autowired MemberNameIndex memberNameIndex;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    // 엔티티 리스너로 캐시, 자동완성 index 에서도 빠지도록 bulk delete 대신 엔티티를 삭제한다.
+    @AfterEach
+    public void cleanUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            memberRepository.deleteAll(memberRepository.findListByAge(9100, Pageable.unpaged()));
+            memberRepository.deleteAll(memberRepository.findListByAge(9101, Pageable.unpaged()));
+            itemRepository.deleteAll(itemRepository.findAllById(
+                    Arrays.asList("stateless-item-0", "stateless-item-1", "stateless-item-2")));
+        });
+    }
+
+    @Test
+    public void insertScrollAndUpdate() {
+        //given
+        int age = 9100;
+        List<Member> members = IntStream.range(0, 5)
+                .mapToObj(i -> new Member("stateless" + i, age))
+                .collect(Collectors.toList());
+
+        //when : insert
+        long inserted = statelessBatchRepository.insertAll(members);
+
+        //then : id, version, auditing 은 채워지고, 자동완성 index 에도 반영된다.
+        assertThat(inserted).isEqualTo(5);
+        assertThat(members).allMatch(m -> m.getId() != null && m.getVersion() == 0 && m.getCreatedDate() != null);
+        assertThat(memberNameIndex.complete("stateless", 10)).hasSize(5);
+
+        //when : scroll 하면서 수정
+        String query = "select m from Member m where m.age = :age";
+        long updated = statelessBatchRepository.scrollAndUpdate(Member.class, query, Collections.singletonMap("age", age),
+                member -> {
+                    member.setAge(member.getAge() + 1);
+                    return true;
+                });
+
+        //then
+        assertThat(updated).isEqualTo(5);
+        for (Member member : members) {
+            Member findMember = memberRepository.findById(member.getId()).get();
+            assertThat(findMember.getAge()).isEqualTo(age + 1);
+            assertThat(findMember.getVersion()).isEqualTo(1);
+        }
+
+        List<Member> scrolled = new ArrayList<>();
+        long count = statelessBatchRepository.scroll(Member.class, query, Collections.singletonMap("age", age + 1), scrolled::add);
+        assertThat(count).isEqualTo(5);
+        assertThat(scrolled).extracting(Member::getUserName).allMatch(name -> name.startsWith("stateless"));
+    }
+
+    @Test
+    public void insertItems() {
+        List<Item> items = IntStream.range(0, 3)
+                .mapToObj(i -> new Item("stateless-item-" + i))
+                .collect(Collectors.toList());
+
+        assertThat(statelessBatchRepository.insertAll(items)).isEqualTo(3);
+        assertThat(statelessBatchRepository.scroll(Item.class, "select i from Item i where i.id like :prefix",
+                Collections.singletonMap("prefix", "stateless-item-%"), item -> { })).isEqualTo(3);
+    }
+
+    @Test
+    public void rejectOuterTransaction() {
+        assertThatThrownBy(() -> transactionTemplate.execute(status ->
+                statelessBatchRepository.insertAll(Collections.singletonList(new Member("statelessTx", 9100)))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}